@@ -0,0 +1,101 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dreamfire Studio
+ */
+package com.dreamfirestudios.scytheplugin.Core;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <summary>Throughput of {@link ExpiringCache} reads and writes.</summary>
+ * <remarks>
+ * <ul>
+ *   <li>{@code hit*}: every key is present; {@code miss}: no key is present.</li>
+ *   <li>{@code contended*}: eight threads against one bounded cache, read-only and 90/10 read/write.</li>
+ *   <li>Built directly through {@link ExpiringCache#builder}, so nothing here needs a server.</li>
+ * </ul>
+ * </remarks>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ExpiringCacheBenchmark {
+    private static final int SIZE = 1 << 14;
+    private static final int MASK = SIZE - 1;
+
+    @State(Scope.Benchmark)
+    public static class Shared {
+        ExpiringCache<Integer, Integer> cache;
+        Integer[] present;
+        Integer[] absent;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            cache = ExpiringCache.<Integer, Integer>builder(Duration.ofHours(1)).maximumSize(SIZE * 2L).build();
+            present = new Integer[SIZE];
+            absent = new Integer[SIZE];
+            for (int i = 0; i < SIZE; i++) {
+                present[i] = i;
+                absent[i] = SIZE * 4 + i;
+                cache.put(present[i], i);
+            }
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        int index;
+
+        int next() { return index++ & MASK; }
+    }
+
+    @Benchmark
+    public Integer hit(final Shared s, final Cursor c) {
+        return s.cache.getIfPresent(s.present[c.next()]);
+    }
+
+    @Benchmark
+    public Optional<Integer> hitOptional(final Shared s, final Cursor c) {
+        return s.cache.get(s.present[c.next()]);
+    }
+
+    @Benchmark
+    public Integer miss(final Shared s, final Cursor c) {
+        return s.cache.getIfPresent(s.absent[c.next()]);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public Integer contendedRead(final Shared s, final Cursor c) {
+        return s.cache.getIfPresent(s.present[c.next()]);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public Integer contendedReadWrite(final Shared s, final Cursor c) {
+        final int i = c.next();
+        if ((i & 15) < 2) {
+            s.cache.put(s.present[i], i);
+            return null;
+        }
+        return s.cache.getIfPresent(s.present[i]);
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dreamfire Studio
+ */
+package com.dreamfirestudios.scytheplugin.Core;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <summary>Throughput of {@link RateLimiter#tryAcquire()} on one shared limiter from 1 to 8 threads.</summary>
+ * <remarks>
+ * {@code granted*} uses a limiter that never runs dry, {@code denied} one that is always empty,
+ * so both outcomes are measured without depending on wall-clock refill.
+ * </remarks>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RateLimiterBenchmark {
+    RateLimiter unlimited;
+    RateLimiter exhausted;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        unlimited = RateLimiter.perSecond(1.0e9, Integer.MAX_VALUE);
+        exhausted = RateLimiter.perSecond(1.0e-6, 1);
+        exhausted.tryAcquire();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public boolean granted1() { return unlimited.tryAcquire(); }
+
+    @Benchmark
+    @Threads(2)
+    public boolean granted2() { return unlimited.tryAcquire(); }
+
+    @Benchmark
+    @Threads(4)
+    public boolean granted4() { return unlimited.tryAcquire(); }
+
+    @Benchmark
+    @Threads(8)
+    public boolean granted8() { return unlimited.tryAcquire(); }
+
+    @Benchmark
+    @Threads(8)
+    public boolean denied8() { return exhausted.tryAcquire(); }
+}
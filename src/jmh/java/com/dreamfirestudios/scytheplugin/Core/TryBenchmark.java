@@ -0,0 +1,44 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dreamfire Studio
+ */
+package com.dreamfirestudios.scytheplugin.Core;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <summary>Overhead of {@link Try#callWithRetry} when the body succeeds on the first attempt.</summary>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TryBenchmark {
+    private static final Duration BASE_DELAY = Duration.ofMillis(50);
+
+    int value = 42;
+
+    @Benchmark
+    public int baseline() {
+        return value;
+    }
+
+    @Benchmark
+    public Integer callWithRetrySuccess() {
+        return Try.callWithRetry("bench", 3, BASE_DELAY, () -> value);
+    }
+}
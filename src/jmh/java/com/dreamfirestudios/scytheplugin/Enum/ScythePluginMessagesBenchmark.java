@@ -0,0 +1,41 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dreamfire Studio
+ */
+package com.dreamfirestudios.scytheplugin.Enum;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <summary>Cost of {@link ScythePluginMessages#GetMessage} with and without extra arguments.</summary>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ScythePluginMessagesBenchmark {
+    String itemName = "Diamond Sword";
+
+    @Benchmark
+    public String noArgs() {
+        return ScythePluginMessages.PlayerReloadedConfig.GetMessage();
+    }
+
+    @Benchmark
+    public String oneArg() {
+        return ScythePluginMessages.PlayerSerializedItem.GetMessage(itemName);
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dreamfire Studio
+ */
+package com.dreamfirestudios.scytheplugin.Event;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Server;
+import org.bukkit.event.Event;
+import org.bukkit.event.EventException;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.HandlerList;
+import org.bukkit.event.Listener;
+import org.bukkit.plugin.EventExecutor;
+import org.bukkit.plugin.RegisteredListener;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Proxy;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+/**
+ * <summary>Cost of dispatching a {@link ScythePluginConfigReloadEvent} by listener layout.</summary>
+ * <remarks>
+ * <ul>
+ *   <li>{@code perTypeList} walks the event's own {@link HandlerList}, as {@code PluginManager.callEvent} does.
+ *   It should scale with {@code reloadListeners} only.</li>
+ *   <li>{@code sharedList} reproduces the old layout: one list holding every Scythe listener, each executor
+ *   filtering by event class. It scales with {@code reloadListeners + otherListeners}.</li>
+ *   <li>Bukkit needs a server for event construction, so setup installs a minimal proxy when none is present.</li>
+ * </ul>
+ * </remarks>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EventDispatchBenchmark {
+
+    @Param({"1", "8"})
+    int reloadListeners;
+
+    @Param({"0", "64", "512"})
+    int otherListeners;
+
+    private final HandlerList shared = new HandlerList();
+    private final Listener listener = new Listener() { };
+    /** Events that reached a matching listener; read by the benchmark so delivery cannot be optimized away. */
+    private long delivered;
+    private ScythePluginConfigReloadEvent event;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        if (Bukkit.getServer() == null) Bukkit.setServer(proxyServer());
+        event = new ScythePluginConfigReloadEvent();
+        for (int i = 0; i < reloadListeners; i++) {
+            ScythePluginConfigReloadEvent.getHandlerList().register(listenerFor(ScythePluginConfigReloadEvent.class));
+            shared.register(listenerFor(ScythePluginConfigReloadEvent.class));
+        }
+        for (int i = 0; i < otherListeners; i++) {
+            if ((i & 1) == 0) {
+                ScythePluginConfigResetEvent.getHandlerList().register(listenerFor(ScythePluginConfigResetEvent.class));
+                shared.register(listenerFor(ScythePluginConfigResetEvent.class));
+            } else {
+                ScythePluginSystemToggleEvent.getHandlerList().register(listenerFor(ScythePluginSystemToggleEvent.class));
+                shared.register(listenerFor(ScythePluginSystemToggleEvent.class));
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        HandlerList.unregisterAll(listener);
+    }
+
+    @Benchmark
+    public long perTypeList() throws EventException {
+        for (final RegisteredListener registration : event.getHandlers().getRegisteredListeners()) {
+            registration.callEvent(event);
+        }
+        return delivered;
+    }
+
+    @Benchmark
+    public long sharedList() throws EventException {
+        for (final RegisteredListener registration : shared.getRegisteredListeners()) {
+            registration.callEvent(event);
+        }
+        return delivered;
+    }
+
+    private RegisteredListener listenerFor(final Class<? extends Event> type) {
+        final EventExecutor executor = (l, e) -> {
+            if (type.isInstance(e)) delivered++;
+        };
+        return new RegisteredListener(listener, executor, EventPriority.NORMAL, null, false);
+    }
+
+    private static Server proxyServer() {
+        final Logger logger = Logger.getLogger("EventDispatchBenchmark");
+        return (Server) Proxy.newProxyInstance(Server.class.getClassLoader(), new Class<?>[]{Server.class}, (proxy, method, args) -> {
+            final Class<?> type = method.getReturnType();
+            if (type == Logger.class) return logger;
+            if (type == String.class) return "benchmark";
+            if (type == boolean.class) return true;
+            if (type == int.class) return 0;
+            if (type == long.class) return 0L;
+            if (type == double.class) return 0.0;
+            return null;
+        });
+    }
+}
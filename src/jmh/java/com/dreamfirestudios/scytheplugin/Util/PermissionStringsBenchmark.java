@@ -0,0 +1,44 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dreamfire Studio
+ */
+package com.dreamfirestudios.scytheplugin.Util;
+
+import com.dreamfirestudios.scytheplugin.Enum.ScythePluginPermissionLevel;
+import com.dreamfirestudios.scytheplugin.Enum.ScythePluginPermissions;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <summary>Cost of {@link PermissionStrings#resolve} for a typical node format.</summary>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PermissionStringsBenchmark {
+    String format = ScythePluginPermissions.ReloadConfigs.getPermissionFormat();
+    String pluginName = "ScythePlugin";
+
+    @Benchmark
+    public String resolveAdmin() {
+        return PermissionStrings.resolve(format, pluginName, ScythePluginPermissionLevel.Admin);
+    }
+
+    @Benchmark
+    public String resolvePlayer() {
+        return PermissionStrings.resolve(format, pluginName, ScythePluginPermissionLevel.Player);
+    }
+}
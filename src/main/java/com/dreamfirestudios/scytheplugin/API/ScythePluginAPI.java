@@ -25,28 +25,126 @@ package com.dreamfirestudios.scytheplugin.API;
 
 import com.dreamfirestudios.dreamconfig.DreamConfig;
 import com.dreamfirestudios.dreamcore.DreamChat.DreamMessageSettings;
+import com.dreamfirestudios.scytheplugin.Core.Coalescer;
+import com.dreamfirestudios.scytheplugin.Core.Config.ConfigAccess;
+import com.dreamfirestudios.scytheplugin.Core.RateLimiter;
 import com.dreamfirestudios.scytheplugin.Core.Services;
 import com.dreamfirestudios.scytheplugin.Core.Try;
 import com.dreamfirestudios.scytheplugin.Event.ScythePluginConfigReloadEvent;
 import com.dreamfirestudios.scytheplugin.Event.ScythePluginConfigResetEvent;
+import com.dreamfirestudios.scytheplugin.Event.ScythePluginSystemToggleEvent;
 import com.dreamfirestudios.scytheplugin.ScythePlugin;
 import com.dreamfirestudios.scytheplugin.PulseConfig.ScythePluginConfig;
 import com.dreamfirestudios.scytheplugin.PulseConfig.ScythePluginSerializableItems;
+import com.dreamfirestudios.scytheplugin.PulseConfig.ScythePluginPermissionsConfigs;
 import org.bukkit.inventory.ItemStack;
 
 import java.time.Duration;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 /**
  * Public, static API surface for <em>ScythePlugin</em> features.
  * <p>Enables/disables the system, serializes items into config, and resets/reloads
  * configs with proper main-thread dispatch and plugin events.</p>
+ * <p>Each operation has a {@code ...Async} variant returning a {@link CompletableFuture}; the callback
+ * variants are thin wrappers over them.</p>
  */
 public final class ScythePluginAPI {
 
+    /** Config re-registrations (reload + reset) per second on a healthy server; fewer under lag. */
+    private static final int REGISTRATIONS_PER_SECOND = 2;
+
+    /** Item serializations per second on a healthy server; fewer under lag. */
+    private static final int SERIALIZATIONS_PER_SECOND = 10;
+
+    /** Longest a reload/reset waits for the re-registered configs to be applied before failing. */
+    private static final Duration APPLY_TIMEOUT = Duration.ofSeconds(30);
+
+    /** Default merge window for reload/reset/toggle requests: half a second. */
+    public static final long DEFAULT_COALESCE_WINDOW_TICKS = 10L;
+
+    private static final Coalescer<DreamMessageSettings, Boolean> RELOADS = new Coalescer<>(
+            settings -> runRegistration(false, settings), DEFAULT_COALESCE_WINDOW_TICKS, Coalescer.latest(), true);
+    private static final Coalescer<DreamMessageSettings, Boolean> RESETS = new Coalescer<>(
+            settings -> runRegistration(true, settings), DEFAULT_COALESCE_WINDOW_TICKS, Coalescer.latest(), true);
+    /** Enable and disable share one serialized coalescer, so the most recent request decides the final state. */
+    private static final Coalescer<Boolean, ScythePluginConfig> TOGGLES = new Coalescer<>(
+            ScythePluginAPI::applyEnabled, DEFAULT_COALESCE_WINDOW_TICKS, Coalescer.latest(), false);
+
     private ScythePluginAPI() { }
 
+    /**
+     * Set how long reload, reset and toggle requests wait to merge with others before running.
+     * Reload and reset requests that arrive while their operation runs join that run. Enable/disable requests
+     * made during a run instead form the next batch, which applies the most recent request's state.
+     *
+     * @param ticks merge window in ticks; 0 disables the wait
+     */
+    public static void SetCoalesceWindowTicks(final long ticks) {
+        final long window = Math.max(0L, ticks);
+        RELOADS.windowTicks(window);
+        RESETS.windowTicks(window);
+        TOGGLES.windowTicks(window);
+    }
+
+    /**
+     * Publish a fresh config snapshot and push every runtime tunable from {@code config} into the running services.
+     * Called after every config load/reload; reload/reset events are only fired once this has run, so their
+     * listeners already see the new snapshot.
+     *
+     * @param config freshly loaded config (non-null)
+     */
+    public static void ApplyRuntimeSettings(final ScythePluginConfig config) {
+        Objects.requireNonNull(config, "config");
+        SetCoalesceWindowTicks(config.ApplyRuntimeSettings().coalesceWindowTicks());
+    }
+
+    private static RateLimiter registrationLimiter() {
+        return Services.adaptiveRateLimiter("__scythe_config_registration", REGISTRATIONS_PER_SECOND, Duration.ofSeconds(1));
+    }
+
+    private static RateLimiter serializationLimiter() {
+        return Services.adaptiveRateLimiter("__scythe_item_serialization", SERIALIZATIONS_PER_SECOND, Duration.ofSeconds(1));
+    }
+
+    /**
+     * Set the system enabled flag, fire {@link ScythePluginSystemToggleEvent} and persist the config.
+     * Enable and disable requests within the coalesce window merge into one run that applies the most recent
+     * request's state; requests made while a run is in progress form the next run, so runs never overlap.
+     * If the flag already has the target value nothing is saved or fired.
+     * The future completes on DreamConfig's save thread; hop with {@code Scheduler#thenMain} if needed.
+     *
+     * @param state desired enabled state
+     * @return future completed with the config after its batch is saved; its flag holds the batch's final state
+     */
+    public static CompletableFuture<ScythePluginConfig> ScythePluginEnableSystemAsync(final boolean state) {
+        return TOGGLES.request(state);
+    }
+
+    /**
+     * Toggle the system enabled flag and persist the config.
+     * Toggles within the coalesce window resolve to the same target state, so a double click flips once.
+     *
+     * @return future completed with the updated config after save
+     */
+    public static CompletableFuture<ScythePluginConfig> ScythePluginEnableSystemAsync() {
+        return ConfigAccess.config(ScythePluginConfig.class)
+                .thenCompose(config -> ScythePluginEnableSystemAsync(!config.systemEnabled));
+    }
+
+    private static CompletableFuture<ScythePluginConfig> applyEnabled(final boolean state) {
+        return ConfigAccess.config(ScythePluginConfig.class).thenCompose(config -> {
+            if (config.systemEnabled == state) return CompletableFuture.completedFuture(config);
+            final CompletableFuture<ScythePluginConfig> saved = new CompletableFuture<>();
+            config.ToggleSystemEnabled(saved::complete, state);
+            return saved;
+        });
+    }
+
     /**
      * Set the system enabled flag and persist the config; success callback runs on main thread.
      *
@@ -55,11 +153,8 @@ public final class ScythePluginAPI {
      */
     public static void ScythePluginEnableSystem(final Consumer<ScythePluginConfig> onSuccess, final boolean state) {
         Objects.requireNonNull(onSuccess, "onSuccess");
-        ScythePluginConfig.ReturnStaticAsync(ScythePlugin.GetScythePlugin(), ScythePluginConfig.class, config -> {
-                    config.systemEnabled = state;
-                    config.SaveDreamConfig(ScythePlugin.GetScythePlugin(), ignored -> Services.scheduler().main(() -> onSuccess.accept(config)));
-                }
-        );
+        Services.scheduler().thenMain(ScythePluginEnableSystemAsync(state)).thenAccept(onSuccess)
+                .exceptionally(t -> ConfigAccess.logFailure("EnableSystem", t));
     }
 
     /**
@@ -69,14 +164,34 @@ public final class ScythePluginAPI {
      */
     public static void ScythePluginEnableSystem(final Consumer<ScythePluginConfig> onSuccess) {
         Objects.requireNonNull(onSuccess, "onSuccess");
-        ScythePluginConfig.ReturnStaticAsync(ScythePlugin.GetScythePlugin(), ScythePluginConfig.class, config -> {
-            config.systemEnabled = !config.systemEnabled;
-            config.SaveDreamConfig(ScythePlugin.GetScythePlugin(), ignored -> Services.scheduler().main(() -> onSuccess.accept(config)));
-        });
+        Services.scheduler().thenMain(ScythePluginEnableSystemAsync()).thenAccept(onSuccess)
+                .exceptionally(t -> ConfigAccess.logFailure("EnableSystem", t));
+    }
+
+    /**
+     * Serialize and store an {@link ItemStack} under an ID, then persist.
+     * Paced by a load-adaptive limiter, so bursts are spread out further while the server lags.
+     * The item is copied immediately, so later changes to {@code itemStack} are not stored.
+     *
+     * @param id        key to store the item under (non-null)
+     * @param itemStack item to store (non-null)
+     * @return future completed with the serializable-items config after save
+     */
+    public static CompletableFuture<ScythePluginSerializableItems> ScythePluginSerializeItemAsync(final String id, final ItemStack itemStack) {
+        Objects.requireNonNull(id, "id");
+        Objects.requireNonNull(itemStack, "itemStack");
+        final ItemStack snapshot = itemStack.clone();
+        return serializationLimiter().acquireAsync(1)
+                .thenCompose(ignored -> ConfigAccess.config(ScythePluginSerializableItems.class))
+                .thenCompose(cfg -> {
+                    cfg.AddItemStack(id, snapshot);
+                    return ConfigAccess.save(cfg);
+                });
     }
 
     /**
      * Serialize and store an {@link ItemStack} under an ID, then persist and callback on main thread.
+     * Paced by a load-adaptive limiter, so bursts are spread out further while the server lags.
      *
      * @param onSuccess callback invoked with the serializable-items config after save (non-null)
      * @param id        key to store the item under (non-null)
@@ -84,53 +199,102 @@ public final class ScythePluginAPI {
      */
     public static void ScythePluginSerializeItem(final Consumer<ScythePluginSerializableItems> onSuccess, final String id, final ItemStack itemStack) {
         Objects.requireNonNull(onSuccess, "onSuccess");
-        Objects.requireNonNull(id, "id");
-        Objects.requireNonNull(itemStack, "itemStack");
-        ScythePluginSerializableItems.ReturnStaticAsync(
-                ScythePlugin.GetScythePlugin(),
-                ScythePluginSerializableItems.class,
-                cfg -> {
-                    cfg.AddItemStack(id, itemStack);
-                    cfg.SaveDreamConfig(ScythePlugin.GetScythePlugin(), ignored -> Services.scheduler().main(() -> onSuccess.accept(cfg)));
-                }
-        );
+        Services.scheduler().thenMain(ScythePluginSerializeItemAsync(id, itemStack)).thenAccept(onSuccess)
+                .exceptionally(t -> ConfigAccess.logFailure("SerializeItem", t));
+    }
+
+    /**
+     * Reset configs (fresh registration) and fire {@link ScythePluginConfigResetEvent}.
+     * Runs on the main thread once the load-adaptive registration limiter allows it.
+     * Resets requested within the coalesce window, or while one runs, share a single execution and event;
+     * a batch uses the settings of the latest request that joined its window.
+     *
+     * @param settings message formatting/settings to pass through registration
+     * @return future completed on the main thread with {@code true} once done, or {@code false} if the system is disabled
+     */
+    public static CompletableFuture<Boolean> ScythePluginResetConfigsAsync(final DreamMessageSettings settings) {
+        return RESETS.request(Objects.requireNonNull(settings, "settings"));
     }
 
     /**
      * Reset configs (fresh registration) and fire {@link ScythePluginConfigResetEvent}, no-op if disabled.
+     * Runs on the main thread once the load-adaptive registration limiter allows it.
      *
      * @param settings message formatting/settings to pass through registration
      */
     public static void ScythePluginResetConfigs(final DreamMessageSettings settings) {
-        Objects.requireNonNull(settings, "settings");
-        ScythePluginConfig.ReturnStaticAsync(ScythePlugin.GetScythePlugin(), ScythePluginConfig.class, config -> {
-            if (!config.systemEnabled) return;
-
-            Services.scheduler().main(() -> {
-                Try.runWithRetry("RegisterStatic(reset)", 3, Duration.ofMillis(50), () ->
-                        DreamConfig.GetDreamConfig().RegisterStatic(ScythePlugin.GetScythePlugin(), true, settings));
+        ScythePluginResetConfigsAsync(settings).exceptionally(t -> ConfigAccess.logFailure("RegisterStatic(reset)", t));
+    }
 
-                new ScythePluginConfigResetEvent().callEvent();
-            });
-        });
+    /**
+     * Reload configs (keep existing) and fire {@link ScythePluginConfigReloadEvent}.
+     * Runs on the main thread once the load-adaptive registration limiter allows it.
+     * Reloads requested within the coalesce window, or while one runs, share a single execution and event;
+     * a batch uses the settings of the latest request that joined its window.
+     *
+     * @param settings message formatting/settings to pass through registration
+     * @return future completed on the main thread with {@code true} once done, or {@code false} if the system is disabled
+     */
+    public static CompletableFuture<Boolean> ScythePluginReloadConfigsAsync(final DreamMessageSettings settings) {
+        return RELOADS.request(Objects.requireNonNull(settings, "settings"));
     }
 
     /**
-     * Reload configs (non-destructive) and fire {@link ScythePluginConfigReloadEvent}, no-op if disabled.
+     * Reload configs (keep existing) and fire {@link ScythePluginConfigReloadEvent}, no-op if disabled.
+     * Runs on the main thread once the load-adaptive registration limiter allows it.
      *
      * @param settings message formatting/settings to pass through registration
      */
     public static void ScythePluginReloadConfigs(final DreamMessageSettings settings) {
-        Objects.requireNonNull(settings, "settings");
-        ScythePluginConfig.ReturnStaticAsync(ScythePlugin.GetScythePlugin(), ScythePluginConfig.class, cfg -> {
-            if (!cfg.systemEnabled) return;
+        ScythePluginReloadConfigsAsync(settings).exceptionally(t -> ConfigAccess.logFailure("RegisterStatic(reload)", t));
+    }
 
-            Services.scheduler().main(() -> {
-                Try.runWithRetry("RegisterStatic(reload)", 3, Duration.ofMillis(50), () ->
-                        DreamConfig.GetDreamConfig().RegisterStatic(ScythePlugin.GetScythePlugin(), false, settings));
+    /**
+     * The event is fired on the main thread only once the re-registered configs have been applied, so listeners
+     * (including the permission cache invalidator) never observe the previous node table or config snapshot.
+     */
+    private static CompletableFuture<Boolean> runRegistration(final boolean reset, final DreamMessageSettings settings) {
+        return whenEnabled(() -> {
+            final CompletableFuture<Void> applied = reregister(reset ? "RegisterStatic(reset)" : "RegisterStatic(reload)", reset, settings);
+            return Services.scheduler().thenMain(applied).thenRun(() ->
+                    Services.eventBus().fire(reset ? new ScythePluginConfigResetEvent() : new ScythePluginConfigReloadEvent()));
+        });
+    }
 
-                new ScythePluginConfigReloadEvent().callEvent();
-            });
+    private static CompletableFuture<Boolean> whenEnabled(final Supplier<CompletableFuture<Void>> onMain) {
+        return ScythePluginConfig.SnapshotAsync().thenCompose(cfg -> {
+            // Hop even when disabled, so callers can rely on the documented main-thread completion.
+            if (!cfg.systemEnabled()) return Services.scheduler().thenMain(CompletableFuture.completedFuture(false));
+            return registrationLimiter().acquireAsyncMain(1)
+                    .thenCompose(ignored -> onMain.get())
+                    .thenApply(ignored -> true);
         });
     }
-}
\ No newline at end of file
+
+    /**
+     * Re-register every config, then apply the new instances. Uses {@code ReturnStaticAsync} directly rather than
+     * {@link ConfigAccess}, whose in-flight lookups may predate {@code RegisterStatic} and return the old instance.
+     *
+     * @return future completed once the permission node table is rebuilt and the config snapshot republished
+     */
+    private static CompletableFuture<Void> reregister(final String operation, final boolean reset, final DreamMessageSettings settings) {
+        Try.runWithRetry(operation, 3, Duration.ofMillis(50), () ->
+                DreamConfig.GetDreamConfig().RegisterStatic(ScythePlugin.GetScythePlugin(), reset, settings));
+        final CompletableFuture<Void> nodes = new CompletableFuture<>();
+        ScythePluginPermissionsConfigs.ReturnStaticAsync(ScythePlugin.GetScythePlugin(), ScythePluginPermissionsConfigs.class,
+                cfg -> completeAfter(nodes, cfg::RebuildNodeTable));
+        final CompletableFuture<Void> runtime = new CompletableFuture<>();
+        ScythePluginConfig.ReturnStaticAsync(ScythePlugin.GetScythePlugin(), ScythePluginConfig.class,
+                cfg -> completeAfter(runtime, () -> ApplyRuntimeSettings(cfg)));
+        return CompletableFuture.allOf(nodes, runtime).orTimeout(APPLY_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    private static void completeAfter(final CompletableFuture<Void> future, final Runnable action) {
+        try {
+            action.run();
+            future.complete(null);
+        } catch (Throwable t) {
+            future.completeExceptionally(t);
+        }
+    }
+}
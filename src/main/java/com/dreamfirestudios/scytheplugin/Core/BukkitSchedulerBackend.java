@@ -0,0 +1,75 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dreamfire Studio
+ */
+package com.dreamfirestudios.scytheplugin.Core;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.entity.Entity;
+import org.bukkit.plugin.Plugin;
+
+/**
+ * <summary>{@link SchedulerBackend} for Paper/Spigot: one main thread owns every entity and location.</summary>
+ */
+final class BukkitSchedulerBackend implements SchedulerBackend {
+    private final Plugin plugin;
+
+    BukkitSchedulerBackend(final Plugin plugin) {
+        this.plugin = plugin;
+    }
+
+    @Override public boolean isGlobalThread() { return Bukkit.isPrimaryThread(); }
+
+    @Override public boolean owns(final Entity entity) { return Bukkit.isPrimaryThread(); }
+
+    @Override public boolean owns(final Location location) { return Bukkit.isPrimaryThread(); }
+
+    @Override
+    public void runGlobal(final Runnable task) {
+        Bukkit.getScheduler().runTask(plugin, task);
+    }
+
+    @Override
+    public void runGlobalLater(final Runnable task, final long delayTicks) {
+        Bukkit.getScheduler().runTaskLater(plugin, task, delayTicks);
+    }
+
+    @Override
+    public void runAsync(final Runnable task) {
+        Bukkit.getScheduler().runTaskAsynchronously(plugin, task);
+    }
+
+    @Override
+    public void runAsyncLater(final Runnable task, final long delayTicks) {
+        Bukkit.getScheduler().runTaskLaterAsynchronously(plugin, task, delayTicks);
+    }
+
+    @Override
+    public void runForEntity(final Entity entity, final Runnable task, final long delayTicks) {
+        if (delayTicks <= 0L) runGlobal(task);
+        else runGlobalLater(task, delayTicks);
+    }
+
+    @Override
+    public void runAtLocation(final Location location, final Runnable task, final long delayTicks) {
+        if (delayTicks <= 0L) runGlobal(task);
+        else runGlobalLater(task, delayTicks);
+    }
+
+    @Override
+    public int repeatGlobal(final Runnable task, final long delayTicks, final long periodTicks) {
+        return Bukkit.getScheduler().runTaskTimer(plugin, task, delayTicks, periodTicks).getTaskId();
+    }
+
+    @Override
+    public int repeatAsync(final Runnable task, final long delayTicks, final long periodTicks) {
+        return Bukkit.getScheduler().runTaskTimerAsynchronously(plugin, task, delayTicks, periodTicks).getTaskId();
+    }
+
+    @Override
+    public void cancel(final int taskId) {
+        Bukkit.getScheduler().cancelTask(taskId);
+    }
+}
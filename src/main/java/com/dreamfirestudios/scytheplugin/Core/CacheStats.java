@@ -0,0 +1,100 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dreamfire Studio
+ */
+package com.dreamfirestudios.scytheplugin.Core;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <summary>Striped counters describing how an {@link ExpiringCache} behaves.</summary>
+ * <remarks>
+ * <ul>
+ *   <li>Every counter is a {@link LongAdder}, so recording from many threads does not contend.</li>
+ *   <li>Load times go into power-of-two microsecond buckets (1µs .. ~1s, last bucket open-ended).</li>
+ *   <li>Use {@link #snapshot()} for a consistent-enough read; individual counters are not read atomically together.</li>
+ * </ul>
+ * </remarks>
+ */
+public final class CacheStats {
+    /** Number of load-time buckets; bucket {@code i} holds loads below {@code 2^i} µs. */
+    public static final int LOAD_BUCKETS = 21;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder expirations = new LongAdder();
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder loadFailures = new LongAdder();
+    private final LongAdder totalLoadNanos = new LongAdder();
+    private final LongAdder[] loadHistogram = new LongAdder[LOAD_BUCKETS];
+
+    CacheStats() {
+        for (int i = 0; i < LOAD_BUCKETS; i++) loadHistogram[i] = new LongAdder();
+    }
+
+    void recordHit() { hits.increment(); }
+
+    void recordMiss() { misses.increment(); }
+
+    void recordEviction() { evictions.increment(); }
+
+    void recordExpiration() { expirations.increment(); }
+
+    void recordExpirations(final int count) { if (count > 0) expirations.add(count); }
+
+    void recordLoad(final long nanos, final boolean success) {
+        if (success) loads.increment(); else loadFailures.increment();
+        totalLoadNanos.add(nanos);
+        final long micros = Math.max(0L, nanos / 1_000L);
+        loadHistogram[Math.min(LOAD_BUCKETS - 1, 64 - Long.numberOfLeadingZeros(micros))].increment();
+    }
+
+    /**
+     * <summary>Capture the current counter values.</summary>
+     */
+    public Snapshot snapshot() {
+        final long[] histogram = new long[LOAD_BUCKETS];
+        for (int i = 0; i < LOAD_BUCKETS; i++) histogram[i] = loadHistogram[i].sum();
+        return new Snapshot(hits.sum(), misses.sum(), evictions.sum(), expirations.sum(),
+                loads.sum(), loadFailures.sum(), totalLoadNanos.sum(), histogram);
+    }
+
+    /**
+     * <summary>Immutable view of {@link CacheStats} at one point in time.</summary>
+     *
+     * @param loadHistogram per-bucket load counts; bucket {@code i} holds loads below {@code 2^i} µs
+     */
+    public record Snapshot(long hits, long misses, long evictions, long expirations,
+                           long loads, long loadFailures, long totalLoadNanos, long[] loadHistogram) {
+
+        /** Hits / (hits + misses), or 1.0 when nothing was requested yet. */
+        public double hitRate() {
+            final long requests = hits + misses;
+            return requests == 0L ? 1.0d : (double) hits / requests;
+        }
+
+        /** Mean load time in microseconds, or 0 when nothing was loaded. */
+        public double averageLoadMicros() {
+            final long count = loads + loadFailures;
+            return count == 0L ? 0.0d : totalLoadNanos / 1_000.0d / count;
+        }
+
+        /**
+         * <summary>Upper bound (µs) of the bucket holding the given load-time percentile.</summary>
+         * <param name="percentile">Value in (0, 1], e.g. 0.99.</param>
+         */
+        public long loadMicrosAtPercentile(final double percentile) {
+            final long count = loads + loadFailures;
+            if (count == 0L) return 0L;
+            final long target = (long) Math.ceil(count * Math.min(1.0d, Math.max(0.0d, percentile)));
+            long seen = 0L;
+            for (int i = 0; i < loadHistogram.length; i++) {
+                seen += loadHistogram[i];
+                if (seen >= target) return 1L << i;
+            }
+            return 1L << (loadHistogram.length - 1);
+        }
+    }
+}
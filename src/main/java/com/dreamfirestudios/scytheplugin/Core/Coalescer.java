@@ -0,0 +1,174 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dreamfire Studio
+ */
+package com.dreamfirestudios.scytheplugin.Core;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+
+/**
+ * <summary>Merges bursts of requests for the same operation into one execution with a shared result.</summary>
+ * <remarks>
+ * <ul>
+ *   <li>The first {@link #request} opens a window of {@link #windowTicks()} ticks; requests inside the window
+ *   join it. When the window closes the operation runs once and every requester gets its result.</li>
+ *   <li>By default, requests arriving while the operation runs join that run as well. The next request after it
+ *   completes opens a new window. A serialized coalescer instead queues them into the next batch, which starts only
+ *   after the running one completes, so batches never overlap.</li>
+ *   <li>Each requester receives its own copy of the shared future, so completing or cancelling it does not affect
+ *   the others.</li>
+ *   <li>A window of 0 runs the operation immediately; only requests that overlap the run are merged.</li>
+ *   <li>Arguments of requests in the same window are combined with the merge function; by default the first
+ *   argument wins. {@link #latest} keeps the last one, e.g. for a target state where the newest request decides.</li>
+ * </ul>
+ * </remarks>
+ * <example>
+ * <code>
+ * Coalescer&lt;DreamMessageSettings, Boolean&gt; reloads = new Coalescer&lt;&gt;(settings -&gt; reloadAsync(settings), 10L);
+ * reloads.request(settings).thenAccept(done -&gt; ...); // three clicks in 10 ticks, one reload
+ *
+ * Coalescer&lt;Boolean, Config&gt; toggles = new Coalescer&lt;&gt;(state -&gt; apply(state), 10L, Coalescer.latest(), false);
+ * toggles.request(true); toggles.request(false); // one run, ends disabled
+ * </code>
+ * </example>
+ */
+public final class Coalescer<A, T> {
+    private final Function<? super A, ? extends CompletableFuture<T>> operation;
+    private final BinaryOperator<A> merge;
+    private final boolean joinRunning;
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder executions = new LongAdder();
+    private volatile long windowTicks;
+    /** Open window waiting to run, and the argument it will run with; guarded by {@code this}. */
+    private CompletableFuture<T> pending;
+    private A pendingArgument;
+    /** Execution in progress; guarded by {@code this}. */
+    private CompletableFuture<T> running;
+    /** Whether the pending batch's window closed while a serialized run was still going; guarded by {@code this}. */
+    private boolean launchWhenIdle;
+
+    /**
+     * <summary>Create a coalescer for one operation.</summary>
+     * <param name="operation">Starts one execution for a batch's argument; called once per merged batch.</param>
+     * <param name="windowTicks">Initial merge window in ticks (0 or more).</param>
+     */
+    public Coalescer(final Function<? super A, ? extends CompletableFuture<T>> operation, final long windowTicks) {
+        this(operation, windowTicks, (first, later) -> first, true);
+    }
+
+    /**
+     * <summary>Create a coalescer with an argument merge policy.</summary>
+     * <param name="operation">Starts one execution for a batch's argument; called once per merged batch.</param>
+     * <param name="windowTicks">Initial merge window in ticks (0 or more).</param>
+     * <param name="merge">Combines the batch's argument so far with a later request's argument.</param>
+     * <param name="joinRunning">Whether requests made during a run join it; if false they form the next batch.</param>
+     */
+    public Coalescer(final Function<? super A, ? extends CompletableFuture<T>> operation, final long windowTicks,
+                     final BinaryOperator<A> merge, final boolean joinRunning) {
+        this.operation = Objects.requireNonNull(operation, "operation");
+        this.merge = Objects.requireNonNull(merge, "merge");
+        this.joinRunning = joinRunning;
+        windowTicks(windowTicks);
+    }
+
+    /**
+     * <summary>Merge policy that keeps the most recent request's argument.</summary>
+     */
+    public static <A> BinaryOperator<A> latest() {
+        return (earlier, later) -> later;
+    }
+
+    /**
+     * <summary>Ask for the operation to run, merging with an open window or (unless serialized) a run in progress.</summary>
+     * <param name="argument">Merged into the argument of the batch this request joins or opens.</param>
+     * <returns>Future completed with the shared result of the execution this request joined.</returns>
+     */
+    public CompletableFuture<T> request(final A argument) {
+        requests.increment();
+        final CompletableFuture<T> joined;
+        final boolean opened;
+        synchronized (this) {
+            if (joinRunning && running != null) {
+                joined = running;
+                opened = false;
+            } else if (pending != null) {
+                joined = pending;
+                pendingArgument = merge.apply(pendingArgument, argument);
+                opened = false;
+            } else {
+                joined = pending = new CompletableFuture<>();
+                pendingArgument = argument;
+                opened = true;
+            }
+        }
+        if (opened) {
+            final long window = windowTicks;
+            if (window <= 0L) launch();
+            else Services.scheduler().asyncLater(this::launch, window);
+        }
+        return joined.copy();
+    }
+
+    private void launch() {
+        final CompletableFuture<T> batch;
+        final A argument;
+        synchronized (this) {
+            batch = pending;
+            if (batch == null) return;
+            if (running != null) {
+                launchWhenIdle = true;
+                return;
+            }
+            argument = pendingArgument;
+            pending = null;
+            pendingArgument = null;
+            running = batch;
+        }
+        executions.increment();
+        CompletableFuture<T> result;
+        try {
+            result = Objects.requireNonNull(operation.apply(argument), "operation returned null");
+        } catch (Throwable t) {
+            result = CompletableFuture.failedFuture(t);
+        }
+        result.whenComplete((value, failure) -> {
+            final boolean next;
+            synchronized (this) {
+                if (running == batch) running = null;
+                next = launchWhenIdle;
+                launchWhenIdle = false;
+            }
+            if (failure == null) batch.complete(value);
+            else batch.completeExceptionally(failure);
+            if (next) launch();
+        });
+    }
+
+    /** Current merge window in ticks. */
+    public long windowTicks() {
+        return windowTicks;
+    }
+
+    /**
+     * <summary>Change the merge window; applies to windows opened afterwards.</summary>
+     */
+    public void windowTicks(final long ticks) {
+        if (ticks < 0L) throw new IllegalArgumentException("windowTicks must be >= 0");
+        this.windowTicks = ticks;
+    }
+
+    /** Requests received so far. */
+    public long requests() {
+        return requests.sum();
+    }
+
+    /** Executions started so far; {@code requests() - executions()} were merged away. */
+    public long executions() {
+        return executions.sum();
+    }
+}
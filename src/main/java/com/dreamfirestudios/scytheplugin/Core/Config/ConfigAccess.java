@@ -0,0 +1,176 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dreamfire Studio
+ */
+package com.dreamfirestudios.scytheplugin.Core.Config;
+
+import com.dreamfirestudios.dreamconfig.Abstract.StaticEnumPulseConfig;
+import com.dreamfirestudios.dreamconfig.Abstract.StaticPulseConfig;
+import com.dreamfirestudios.scytheplugin.ScythePlugin;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+
+/**
+ * <summary>{@link CompletableFuture} views of the DreamConfig callback accessors.</summary>
+ * <remarks>
+ * <ul>
+ *   <li>Each future completes on whatever thread DreamConfig invokes its callback on; no extra hop is added, so
+ *   chained stages run there too until a stage explicitly moves thread (e.g. {@code Scheduler#thenMain}).</li>
+ *   <li>A callback that throws completes the future exceptionally instead of being lost.</li>
+ *   <li>Lookups are single-flight per config class: while one {@code ReturnStaticAsync} is outstanding, further
+ *   lookups of the same class wait on it instead of issuing their own, so a fan-out over N players costs one
+ *   access. Each caller gets its own copy of the shared future.</li>
+ *   <li>A lookup whose callback never arrives fails with a {@link java.util.concurrent.TimeoutException} after
+ *   {@link #LOAD_TIMEOUT}; the flight is dropped however it ends, so the next lookup starts a fresh load.</li>
+ *   <li>Chains that end in {@code thenAccept} should finish with {@code .exceptionally(t -> logFailure(...))}
+ *   so errors in the consumer are logged rather than stored in a future nobody reads.</li>
+ *   <li>{@link #stats()} reports, per class, requests, actual loads, current waiters and wait times.</li>
+ * </ul>
+ * </remarks>
+ * <example>
+ * <code>
+ * ConfigAccess.config(ScythePluginConfig.class)
+ *     .thenCompose(cfg -> ConfigAccess.enumConfig(ScythePluginMessagesConfig.class))
+ *     .thenAccept(messages -> messages.SendMessageToPlayer(msg, player, settings));
+ * </code>
+ * </example>
+ */
+public final class ConfigAccess {
+
+    /**
+     * <summary>Point-in-time access metrics for one config class.</summary>
+     * <param name="requests">Lookups requested.</param>
+     * <param name="loads">Lookups that actually called {@code ReturnStaticAsync}; the rest joined one in flight.</param>
+     * <param name="waiting">Callers currently waiting for a result.</param>
+     * <param name="averageWaitMicros">Mean time from request to result.</param>
+     * <param name="maxWaitMicros">Longest time from request to result.</param>
+     */
+    public record Stats(long requests, long loads, int waiting, double averageWaitMicros, long maxWaitMicros) { }
+
+    private static final class Metrics {
+        private final LongAdder requests = new LongAdder();
+        private final LongAdder loads = new LongAdder();
+        private final AtomicInteger waiting = new AtomicInteger();
+        private final LongAdder completed = new LongAdder();
+        private final LongAdder totalWaitNanos = new LongAdder();
+        private final AtomicLong maxWaitNanos = new AtomicLong();
+
+        void finished(final long waitNanos) {
+            waiting.decrementAndGet();
+            completed.increment();
+            totalWaitNanos.add(waitNanos);
+            maxWaitNanos.accumulateAndGet(waitNanos, Math::max);
+        }
+
+        Stats snapshot() {
+            final long done = completed.sum();
+            return new Stats(requests.sum(), loads.sum(), waiting.get(),
+                    done == 0L ? 0.0 : totalWaitNanos.sum() / (double) done / 1_000.0,
+                    maxWaitNanos.get() / 1_000L);
+        }
+    }
+
+    /** Longest a lookup waits for DreamConfig's callback before failing. */
+    public static final Duration LOAD_TIMEOUT = Duration.ofSeconds(30);
+
+    private static final Map<Class<?>, CompletableFuture<?>> IN_FLIGHT = new ConcurrentHashMap<>();
+    private static final Map<Class<?>, Metrics> METRICS = new ConcurrentHashMap<>();
+
+    private ConfigAccess() { }
+
+    /**
+     * <summary>Resolve a {@link StaticPulseConfig} singleton.</summary>
+     */
+    public static <T extends StaticPulseConfig<T>> CompletableFuture<T> config(final Class<T> type) {
+        Objects.requireNonNull(type, "type");
+        return singleFlight(type, callback -> StaticPulseConfig.ReturnStaticAsync(ScythePlugin.GetScythePlugin(), type, callback));
+    }
+
+    /**
+     * <summary>Resolve a {@link StaticEnumPulseConfig} singleton.</summary>
+     */
+    public static <T extends StaticEnumPulseConfig<T, ?, ?>> CompletableFuture<T> enumConfig(final Class<T> type) {
+        Objects.requireNonNull(type, "type");
+        return singleFlight(type, callback -> StaticEnumPulseConfig.ReturnStaticAsync(ScythePlugin.GetScythePlugin(), type, callback));
+    }
+
+    /**
+     * <summary>Access metrics for every config class looked up so far, sorted by simple class name.</summary>
+     */
+    public static Map<String, Stats> stats() {
+        final Map<String, Stats> out = new TreeMap<>();
+        METRICS.forEach((type, metrics) -> out.put(type.getSimpleName(), metrics.snapshot()));
+        return out;
+    }
+
+    /**
+     * <summary>Log a failed config-driven operation; shaped for {@link CompletableFuture#exceptionally}.</summary>
+     * <param name="operation">Short description used in the log line.</param>
+     * <returns>Always {@code null}.</returns>
+     * <example>
+     * <code>
+     * ConfigAccess.config(type).thenAccept(cfg -> use(cfg)).exceptionally(t -> ConfigAccess.logFailure("use", t));
+     * </code>
+     * </example>
+     */
+    public static <T> T logFailure(final String operation, final Throwable failure) {
+        ScythePlugin.GetScythePlugin().getLogger().log(Level.SEVERE, operation + " failed", failure);
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> CompletableFuture<T> singleFlight(final Class<T> type, final Consumer<Consumer<T>> load) {
+        final Metrics metrics = METRICS.computeIfAbsent(type, k -> new Metrics());
+        metrics.requests.increment();
+        metrics.waiting.incrementAndGet();
+        final long start = System.nanoTime();
+
+        final CompletableFuture<T> created = new CompletableFuture<>();
+        final CompletableFuture<T> shared = (CompletableFuture<T>) IN_FLIGHT.putIfAbsent(type, created);
+        final CompletableFuture<T> flight = shared != null ? shared : created;
+        final CompletableFuture<T> result = flight.copy();
+        result.whenComplete((value, failure) -> metrics.finished(System.nanoTime() - start));
+
+        if (shared == null) {
+            metrics.loads.increment();
+            created.orTimeout(LOAD_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)
+                    .whenComplete((value, failure) -> IN_FLIGHT.remove(type, created));
+            try {
+                load.accept(value -> {
+                    IN_FLIGHT.remove(type, created);
+                    created.complete(value);
+                });
+            } catch (Throwable t) {
+                IN_FLIGHT.remove(type, created);
+                created.completeExceptionally(t);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * <summary>Persist a {@link StaticPulseConfig}; completes with the saved instance.</summary>
+     */
+    public static <T extends StaticPulseConfig<T>> CompletableFuture<T> save(final T config) {
+        Objects.requireNonNull(config, "config");
+        final CompletableFuture<T> future = new CompletableFuture<>();
+        try {
+            config.SaveDreamConfig(ScythePlugin.GetScythePlugin(), ignored -> future.complete(config));
+        } catch (Throwable t) {
+            future.completeExceptionally(t);
+        }
+        return future;
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dreamfire Studio
+ */
+package com.dreamfirestudios.scytheplugin.Core;
+
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+/**
+ * <summary>Long-running main-thread work split into steps, run a time slice per tick until done.</summary>
+ * <remarks>
+ * <ul>
+ *   <li>Runs as a {@link TickDispatcher} job with period 1. Each tick it calls {@link Step#run()} until the step
+ *   reports it is finished or the slice is spent, then yields to the rest of the tick.</li>
+ *   <li>At least one step runs per tick, so a slice shorter than one step still makes progress.</li>
+ *   <li>{@link #completed()} counts steps; {@link #progress()} divides that by the expected total when known.</li>
+ *   <li>{@link #cancel()} stops the job before its next step. {@link #future()} then completes with a
+ *   {@link CancellationException}; a throwing step completes it exceptionally.</li>
+ *   <li>The future always completes on the main thread: a cancel from another thread only flags the job, and
+ *   the next slice completes it. Once the dispatcher has dropped the job, a cancel completes it directly.</li>
+ * </ul>
+ * </remarks>
+ * <example>
+ * <code>
+ * CooperativeJob job = Services.scheduler().forEachCooperatively(players, p -> p.sendMessage(msg));
+ * job.future().thenRun(() -> logger.info("done"));
+ * </code>
+ * </example>
+ */
+public final class CooperativeJob {
+
+    /**
+     * <summary>One unit of work.</summary>
+     */
+    @FunctionalInterface
+    public interface Step {
+        /**
+         * <summary>Do one unit of work.</summary>
+         * <returns>true while more work remains; false once finished.</returns>
+         */
+        boolean run();
+    }
+
+    private final Step step;
+    private final long total;
+    private final long sliceNanos;
+    private final BooleanSupplier onMainThread;
+    private final CompletableFuture<Void> future = new CompletableFuture<>();
+    private volatile long completed;
+    private final AtomicBoolean cancelRequested = new AtomicBoolean();
+    private volatile TickDispatcher.Job job;
+
+    /** {@code onMainThread} is the scheduler backend's thread check, so "main" means what the backend runs on. */
+    CooperativeJob(final Step step, final long total, final long sliceNanos, final BooleanSupplier onMainThread) {
+        this.step = step;
+        this.total = total;
+        this.sliceNanos = sliceNanos;
+        this.onMainThread = onMainThread;
+    }
+
+    /**
+     * <summary>A step function that applies {@code action} to one element per step.</summary>
+     */
+    static <T> Step forEach(final Iterator<T> iterator, final Consumer<? super T> action) {
+        Objects.requireNonNull(iterator, "iterator");
+        Objects.requireNonNull(action, "action");
+        return () -> {
+            if (!iterator.hasNext()) return false;
+            action.accept(iterator.next());
+            return iterator.hasNext();
+        };
+    }
+
+    void attach(final TickDispatcher.Job job) {
+        this.job = job;
+        if (future.isDone()) job.cancel();
+    }
+
+    /** Run steps for one tick; called by the dispatcher. */
+    void slice() {
+        if (future.isDone()) return;
+        if (cancelRequested.get()) {
+            finish(cancellation());
+            return;
+        }
+        final long deadline = System.nanoTime() + sliceNanos;
+        long done = completed;
+        try {
+            boolean more;
+            do {
+                more = step.run();
+                done++;
+            } while (more && !cancelRequested.get() && System.nanoTime() - deadline < 0L);
+            completed = done;
+            if (!more) finish(null);
+            else if (cancelRequested.get()) finish(cancellation());
+        } catch (Throwable t) {
+            completed = done;
+            finish(t);
+        }
+    }
+
+    private void finish(final Throwable failure) {
+        if (failure == null) future.complete(null);
+        else future.completeExceptionally(failure);
+        final TickDispatcher.Job j = job;
+        if (j != null) j.cancel();
+    }
+
+    private static CancellationException cancellation() {
+        return new CancellationException("cooperative job cancelled");
+    }
+
+    /**
+     * <summary>Stop the job before its next step.</summary>
+     * <remarks>Off the main thread the future completes at the start of the next tick's slice.</remarks>
+     * <returns>true if the job was still running.</returns>
+     */
+    public boolean cancel() {
+        if (future.isDone() || !cancelRequested.compareAndSet(false, true)) return false;
+        final TickDispatcher.Job j = job;
+        if (j == null || j.isCancelled() || onMainThread.getAsBoolean()) finish(cancellation());
+        return true;
+    }
+
+    /** Steps run so far. */
+    public long completed() {
+        return completed;
+    }
+
+    /** Expected number of steps, or -1 if unknown. */
+    public long total() {
+        return total;
+    }
+
+    /** Fraction of steps done in {@code [0, 1]}, or -1 if the total is unknown. */
+    public double progress() {
+        if (total < 0L) return -1.0;
+        if (total == 0L || (future.isDone() && !future.isCompletedExceptionally())) return 1.0;
+        return Math.min(1.0, completed / (double) total);
+    }
+
+    /** Whether the job has finished, failed or been cancelled. */
+    public boolean isDone() {
+        return future.isDone();
+    }
+
+    /** Completes on the main thread when the last step finishes or the job is cancelled. */
+    public CompletableFuture<Void> future() {
+        return future;
+    }
+}
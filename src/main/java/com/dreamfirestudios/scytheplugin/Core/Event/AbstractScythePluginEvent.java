@@ -7,6 +7,7 @@ package com.dreamfirestudios.scytheplugin.Core.Event;
 
 import com.dreamfirestudios.scytheplugin.Core.EventBus;
 import com.dreamfirestudios.scytheplugin.Core.Log;
+import com.dreamfirestudios.scytheplugin.Core.Services;
 import com.dreamfirestudios.scytheplugin.PulseConfig.ScythePluginConfig;
 import com.dreamfirestudios.scytheplugin.ScythePlugin;
 import org.bukkit.Bukkit;
@@ -17,15 +18,15 @@ import org.bukkit.event.HandlerList;
  * <summary>Abstract base class for all {@code ScythePlugin} events.</summary>
  * <remarks>
  * <ul>
- *   <li>Provides Bukkit {@link HandlerList} boilerplate.</li>
- *   <li>Centralizes dispatch through {@link EventBus} (main-thread safe).</li>
+ *   <li>Each concrete subclass declares its own static {@link HandlerList} plus {@code getHandlers()} and
+ *   {@code getHandlerList()}, so firing one event type only walks that type's listeners. A list shared through
+ *   this base would put every Scythe listener in one list and make each event pay for all of them.</li>
+ *   <li>Centralizes dispatch through the shared {@link EventBus}: internal subscribers first, then Bukkit.</li>
  *   <li>Skips firing when the system is disabled; optional debug logging.</li>
  * </ul>
  * </remarks>
  */
 public abstract class AbstractScythePluginEvent extends Event {
-    private static final HandlerList HANDLERS = new HandlerList();
-
     /**
      * <summary>Constructs a plugin event, auto-detecting async state.</summary>
      */
@@ -33,23 +34,18 @@ public abstract class AbstractScythePluginEvent extends Event {
         super(!Bukkit.isPrimaryThread());
     }
 
-    @Override
-    public HandlerList getHandlers() { return HANDLERS; }
-
-    public static HandlerList getHandlerList() { return HANDLERS; }
-
     /**
-     * <summary>Fire this event if the system is enabled; always on the main thread.</summary>
+     * <summary>Fire this event through {@link Services#eventBus()} if the system is enabled.</summary>
      */
     public void fireEvent() {
-        ScythePluginConfig.ReturnStaticAsync(ScythePlugin.GetScythePlugin(), ScythePluginConfig.class, cfg -> {
-            final Log log = Log.of(ScythePlugin.GetScythePlugin(), cfg.debugConfig);
-            if (!cfg.systemEnabled) {
-                if (cfg.debugConfig) log.debug("Events", "Skipped (disabled): " + getClass().getSimpleName());
+        ScythePluginConfig.WithSnapshot(cfg -> {
+            final Log log = Log.of(ScythePlugin.GetScythePlugin(), cfg.debugConfig());
+            if (!cfg.systemEnabled()) {
+                if (cfg.debugConfig()) log.debug("Events", "Skipped (disabled): " + getClass().getSimpleName());
                 return;
             }
-            if (cfg.debugConfig) log.debug("Events", "Firing: " + getClass().getSimpleName());
-            new EventBus(ScythePlugin.GetScythePlugin()).fire(this);
+            if (cfg.debugConfig()) log.debug("Events", "Firing: " + getClass().getSimpleName());
+            Services.eventBus().fire(this);
         });
     }
 }
\ No newline at end of file
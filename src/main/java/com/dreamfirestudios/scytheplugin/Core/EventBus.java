@@ -27,71 +27,173 @@ import org.bukkit.Bukkit;
 import org.bukkit.event.Event;
 import org.bukkit.plugin.Plugin;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 /**
  * A minimal, thread-aware event and task dispatcher for Bukkit plugins.
  *
  * <h2>Responsibilities</h2>
  * <ul>
- *   <li>Fire Bukkit {@link Event}s on the <strong>main server thread</strong>.</li>
+ *   <li>Deliver events to in-plugin subscribers ({@link #subscribe}) without going through Bukkit.</li>
+ *   <li>Fire Bukkit {@link Event}s for third-party plugins on the thread Bukkit expects.</li>
  *   <li>Run user-supplied tasks on the main thread either immediately or after a delay.</li>
  * </ul>
  *
+ * <h2>Internal subscribers</h2>
+ * <p>
+ * Subscriptions are typed: a subscriber for {@code T} receives every posted event that is a {@code T}. For each
+ * concrete event class the matching subscribers are resolved once into an array, so {@link #post} is a map lookup
+ * plus a loop; subscribing or unsubscribing clears the resolved arrays. Each subscriber picks a {@link Lane}:
+ * on the posting thread, on the main thread, or on an async thread. A failing subscriber is logged and does
+ * not affect the others.
+ * </p>
+ *
  * <h2>Threading</h2>
  * <p>
- * Event dispatch always occurs on the main thread. If the caller is already on the main thread,
- * dispatch is synchronous; otherwise the call is marshalled using {@link Scheduler#main(Runnable)}.
+ * {@link #fire(Event)} posts to internal subscribers first, then calls Bukkit. Synchronous Bukkit events are
+ * called on the main thread (inline when already there, otherwise via {@link Scheduler#main(Runnable)});
+ * asynchronous ones are called off the main thread, hopping to {@link Scheduler#async(Runnable)} if needed.
  * </p>
  *
  * <h2>Nullability & Contracts</h2>
  * <ul>
- *   <li>The constructor requires a non-null {@link Plugin}.</li>
- *   <li>{@link #fire(Event)} requires a non-null {@link Event} instance.</li>
+ *   <li>One shared instance lives in {@link Services#eventBus()}.</li>
+ *   <li>{@link #fire(Event)} and {@link #post(Object)} require a non-null event instance.</li>
  *   <li>{@link #runMain(Runnable)} and {@link #runLater(Runnable, long)} require a non-null task.</li>
  * </ul>
  *
  * <h2>Examples</h2>
  * <pre>{@code
- * EventBus bus = new EventBus(plugin);
- * bus.fire(new MyCustomEvent(...)); // safe from any thread
+ * EventBus bus = Services.eventBus();
+ * bus.subscribe(ScythePluginConfigReloadEvent.class, EventBus.Lane.POSTING, e -> cache.invalidateAll());
+ * bus.fire(new MyCustomEvent(...)); // internal subscribers, then Bukkit; safe from any thread
  * bus.runMain(() -> logger.info("Hello from main thread"));
  * bus.runLater(() -> doTick(), 20L); // ~1s later
  * }</pre>
  */
 public final class EventBus {
+
+    /** Where an internal subscriber runs. */
+    public enum Lane {
+        /** On the thread that posted the event; the cheapest lane, for thread-safe handlers. */
+        POSTING,
+        /** On the main thread, inline when posted from it. */
+        MAIN,
+        /** On an async thread from {@link Scheduler#async(Runnable)}. */
+        ASYNC
+    }
+
+    /** Handle returned by {@link #subscribe}. */
+    public interface Subscription {
+        /** Stop receiving events; idempotent. */
+        void unsubscribe();
+    }
+
+    private static final Subscriber<?>[] NONE = new Subscriber<?>[0];
+
     private final Scheduler scheduler;
+    private final Logger logger;
+    private final List<Subscriber<?>> subscribers = new CopyOnWriteArrayList<>();
+    private final Map<Class<?>, Subscriber<?>[]> resolved = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a dispatcher on top of an existing scheduler.
+     *
+     * @param scheduler scheduler used for thread hops (non-null)
+     * @param logger    receives subscriber failures (non-null)
+     */
+    public EventBus(final Scheduler scheduler, final Logger logger) {
+        this.scheduler = Objects.requireNonNull(scheduler, "scheduler");
+        this.logger = Objects.requireNonNull(logger, "logger");
+    }
 
     /**
-     * Creates a new dispatcher bound to a specific plugin instance.
+     * Creates a dispatcher bound to a specific plugin instance.
      *
      * @param plugin owning plugin (non-null)
      * @throws NullPointerException if {@code plugin} is null
+     * @deprecated shares no subscribers with the rest of the plugin; use {@link Services#eventBus()}.
      */
+    @Deprecated
     public EventBus(final Plugin plugin) {
-        Objects.requireNonNull(plugin, "plugin");
-        this.scheduler = new Scheduler(plugin);
+        this(Services.scheduler(), Objects.requireNonNull(plugin, "plugin").getLogger());
+    }
+
+    /**
+     * Registers an internal subscriber for {@code type} and all of its subtypes.
+     *
+     * @param type    event type to receive (non-null)
+     * @param lane    thread the handler runs on (non-null)
+     * @param handler handler (non-null)
+     * @return handle for {@link Subscription#unsubscribe()}
+     */
+    public <E> Subscription subscribe(final Class<E> type, final Lane lane, final Consumer<? super E> handler) {
+        final Subscriber<E> subscriber = new Subscriber<>(
+                Objects.requireNonNull(type, "type"),
+                Objects.requireNonNull(lane, "lane"),
+                Objects.requireNonNull(handler, "handler"));
+        subscribers.add(subscriber);
+        resolved.clear();
+        return () -> {
+            if (subscribers.remove(subscriber)) resolved.clear();
+        };
+    }
+
+    /**
+     * Registers an internal subscriber that runs on the posting thread.
+     *
+     * @see #subscribe(Class, Lane, Consumer)
+     */
+    public <E> Subscription subscribe(final Class<E> type, final Consumer<? super E> handler) {
+        return subscribe(type, Lane.POSTING, handler);
     }
 
     /**
-     * Fires a Bukkit {@link Event}, ensuring dispatch on the main thread.
-     * <p>
-     * If called from the main thread, the event is fired immediately. Otherwise, it is posted
-     * to the main thread for later execution within the same tick.
-     * </p>
+     * Delivers an event to internal subscribers only.
+     *
+     * @param event event to deliver (non-null)
+     * @return number of subscribers the event was delivered or handed off to
+     */
+    public int post(final Object event) {
+        Objects.requireNonNull(event, "event");
+        final Subscriber<?>[] targets = resolved.computeIfAbsent(event.getClass(), this::resolve);
+        for (final Subscriber<?> subscriber : targets) deliver(subscriber, event);
+        return targets.length;
+    }
+
+    /**
+     * Delivers an event to internal subscribers, then fires it through Bukkit for other plugins.
      *
      * @param event event to fire (non-null)
      * @throws NullPointerException if {@code event} is null
      */
     public void fire(final Event event) {
-        Objects.requireNonNull(event, "event");
-        if (Bukkit.isPrimaryThread()) {
+        post(event);
+        if (event.isAsynchronous()) {
+            if (Bukkit.isPrimaryThread()) scheduler.async(() -> Bukkit.getPluginManager().callEvent(event));
+            else Bukkit.getPluginManager().callEvent(event);
+        } else if (Bukkit.isPrimaryThread()) {
             Bukkit.getPluginManager().callEvent(event);
         } else {
             scheduler.main(() -> Bukkit.getPluginManager().callEvent(event));
         }
     }
 
+    /**
+     * Number of internal subscribers currently registered.
+     */
+    public int subscriberCount() {
+        return subscribers.size();
+    }
+
     /**
      * Executes a task on the main thread as soon as possible.
      *
@@ -112,4 +214,41 @@ public final class EventBus {
     public void runLater(final Runnable task, final long delayTicks) {
         scheduler.mainLater(Objects.requireNonNull(task, "task"), delayTicks);
     }
-}
\ No newline at end of file
+
+    private Subscriber<?>[] resolve(final Class<?> eventClass) {
+        final List<Subscriber<?>> matches = new ArrayList<>();
+        for (final Subscriber<?> subscriber : subscribers) {
+            if (subscriber.type.isAssignableFrom(eventClass)) matches.add(subscriber);
+        }
+        return matches.isEmpty() ? NONE : matches.toArray(NONE);
+    }
+
+    private void deliver(final Subscriber<?> subscriber, final Object event) {
+        switch (subscriber.lane) {
+            case POSTING -> subscriber.accept(event, logger);
+            case MAIN -> scheduler.main(() -> subscriber.accept(event, logger));
+            case ASYNC -> scheduler.async(() -> subscriber.accept(event, logger));
+        }
+    }
+
+    /** Identity-compared, so subscribing the same handler twice yields two independent subscriptions. */
+    private static final class Subscriber<E> {
+        private final Class<E> type;
+        private final Lane lane;
+        private final Consumer<? super E> handler;
+
+        Subscriber(final Class<E> type, final Lane lane, final Consumer<? super E> handler) {
+            this.type = type;
+            this.lane = lane;
+            this.handler = handler;
+        }
+
+        void accept(final Object event, final Logger logger) {
+            try {
+                handler.accept(type.cast(event));
+            } catch (Throwable t) {
+                logger.log(Level.SEVERE, "Event subscriber for " + type.getSimpleName() + " failed", t);
+            }
+        }
+    }
+}
@@ -8,31 +8,151 @@ package com.dreamfirestudios.scytheplugin.Core;
 import java.time.Duration;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.function.ToIntBiFunction;
 
 /**
- * <summary>Simple lock-free TTL cache for hot values.</summary>
- * <remarks>Entries expire lazily on read.</remarks>
+ * <summary>Simple TTL cache for hot values, optionally bounded by size or weight.</summary>
+ * <remarks>
+ * <ul>
+ *   <li>Reads are lock-free; an expired entry is never returned.</li>
+ *   <li>Expired entries are reclaimed proactively by {@link #cleanUp()} through a {@link TimerWheel}, so keys that
+ *   are never read again still leave the map. Caches created through {@link Services} are swept every tick.</li>
+ *   <li>Writes to a bounded cache are serialized by a single eviction lock so the map, the eviction queues and the
+ *   timer wheel never disagree. Unbounded caches write to the map without it and hand the timer-wheel bookkeeping
+ *   to whichever thread next gets the lock, so writers never wait on each other or on a sweep.</li>
+ *   <li>Bounded caches use a W-TinyLFU style policy: new entries enter a small LRU admission window; when
+ *   the cache is full the window's overflow competes with the main LRU victim and the entry with the lower
+ *   {@link FrequencySketch} estimate is dropped.</li>
+ *   <li>Access reordering is best-effort: a read only records itself if the eviction lock is free.</li>
+ *   <li>Loads are single-flight: concurrent misses on the same key share one loader call. A key invalidated
+ *   while its load is running is not repopulated by that load. A loader must not read its own key from the same
+ *   cache; doing so throws {@link IllegalStateException} instead of deadlocking.</li>
+ *   <li>With {@link Builder#refreshAfter(Duration)}, a loader-backed read of an entry older than the refresh
+ *   interval still returns the cached value and triggers one background reload on the executor, which swaps
+ *   the new value in atomically. Hot keys then never pay a synchronous miss.</li>
+ *   <li>Hits, misses, evictions, expirations and load times are recorded in {@link CacheStats}.</li>
+ * </ul>
+ * </remarks>
+ * <example>
+ * <code>
+ * ExpiringCache&lt;UUID, Boolean&gt; cache = ExpiringCache.&lt;UUID, Boolean&gt;builder(Duration.ofSeconds(5))
+ *         .maximumSize(10_000)
+ *         .build();
+ * </code>
+ * </example>
  */
-public final class ExpiringCache<K, V> {
+public final class ExpiringCache<K, V> implements ExpirySweeper.Sweepable {
 
-    private static final class Entry<V> {
-        final V v; final long exp;
-        Entry(V v, long exp) { this.v = v; this.exp = exp; }
+    private static final byte UNLINKED = 0;
+    private static final byte WINDOW = 1;
+    private static final byte MAIN = 2;
+
+    /** Share of the maximum weight reserved for the admission window. */
+    private static final double WINDOW_RATIO = 0.01d;
+
+    /** Upper bound on entries reclaimed per {@link #cleanUp()} call; the rest carry over to the next sweep. */
+    private static final int SWEEP_BUDGET = 1_024;
+
+    @SuppressWarnings("rawtypes")
+    private static final AtomicIntegerFieldUpdater<Node> REFRESHING =
+            AtomicIntegerFieldUpdater.newUpdater(Node.class, "refreshing");
+
+    private static final class Node<K, V> extends TimerWheel.Timed {
+        final K key; final V v; final long exp; final long refreshAt; final int weight;
+        Node<K, V> prev, next; byte queue;
+        volatile int refreshing;
+        Node(K key, V v, long exp, long refreshAt, int weight) {
+            this.key = key; this.v = v; this.exp = exp; this.refreshAt = refreshAt; this.weight = weight;
+        }
+        @Override long expiresAt() { return exp; }
     }
 
+    /** In-flight load; {@code thread} is set while a loader runs so a re-entrant read of the key can be detected. */
+    private static final class Load<V> extends CompletableFuture<V> {
+        volatile Thread thread;
+    }
+
+    /** Intrusive access-ordered list; head is the least recently used node. */
+    private static final class AccessQueue<K, V> {
+        Node<K, V> head, tail;
+        long weight;
+
+        void linkLast(final Node<K, V> n) {
+            n.prev = tail; n.next = null;
+            if (tail == null) head = n; else tail.next = n;
+            tail = n;
+            weight += n.weight;
+        }
+
+        void unlink(final Node<K, V> n) {
+            if (n.prev == null) head = n.next; else n.prev.next = n.next;
+            if (n.next == null) tail = n.prev; else n.next.prev = n.prev;
+            n.prev = n.next = null;
+            weight -= n.weight;
+        }
+
+        void moveToLast(final Node<K, V> n) {
+            if (tail == n) return;
+            unlink(n);
+            linkLast(n);
+        }
+
+        void clear() { head = tail = null; weight = 0L; }
+    }
+
+    private final String name;
     private final long ttlNanos;
-    private final ConcurrentMap<K, Entry<V>> map = new ConcurrentHashMap<>();
+    private final long refreshNanos;
+    private final long maximumWeight;
+    private final long windowMaximum;
+    private final ToIntBiFunction<? super K, ? super V> weigher;
+    private final Executor executor;
+    private final ConcurrentMap<K, Node<K, V>> map = new ConcurrentHashMap<>();
+    private final ConcurrentMap<K, Load<V>> loading = new ConcurrentHashMap<>();
+    private final ReentrantLock evictionLock = new ReentrantLock();
+    /** Unbounded caches only: nodes written or removed without the lock, awaiting timer-wheel reconciliation. */
+    private final ConcurrentLinkedQueue<Node<K, V>> timerBuffer = new ConcurrentLinkedQueue<>();
+    private final AccessQueue<K, V> window = new AccessQueue<>();
+    private final AccessQueue<K, V> main = new AccessQueue<>();
+    private final FrequencySketch sketch;
+    private final TimerWheel timerWheel = new TimerWheel(System.nanoTime());
+    private final CacheStats stats = new CacheStats();
 
     /**
-     * <summary>Create a cache with the given TTL.</summary>
+     * <summary>Create an unbounded cache with the given TTL.</summary>
      */
     public ExpiringCache(final Duration ttl) {
-        Objects.requireNonNull(ttl, "ttl");
-        this.ttlNanos = Math.max(1L, ttl.toNanos());
+        this(new Builder<>(ttl));
+    }
+
+    private ExpiringCache(final Builder<K, V> b) {
+        this.name = b.name;
+        this.ttlNanos = Math.max(1L, b.ttl.toNanos());
+        this.refreshNanos = b.refreshAfter == null ? 0L : b.refreshAfter.toNanos();
+        this.maximumWeight = b.maximumWeight;
+        this.weigher = b.weigher;
+        this.executor = b.executor;
+        this.windowMaximum = bounded() ? Math.max(1L, (long) (b.maximumWeight * WINDOW_RATIO)) : 0L;
+        this.sketch = bounded() ? new FrequencySketch(b.weigher == null ? b.maximumWeight : 1024L) : null;
+    }
+
+    /**
+     * <summary>Start building a cache with the given TTL.</summary>
+     */
+    public static <K, V> Builder<K, V> builder(final Duration ttl) {
+        return new Builder<>(ttl);
     }
 
     /**
@@ -40,24 +160,103 @@ public final class ExpiringCache<K, V> {
      */
     public Optional<V> get(final K key) {
         Objects.requireNonNull(key, "key");
-        final Entry<V> e = map.get(key);
-        if (e == null) return Optional.empty();
-        if (System.nanoTime() > e.exp) { map.remove(key, e); return Optional.empty(); }
+        final Node<K, V> e = map.get(key);
+        if (e == null) { stats.recordMiss(); return Optional.empty(); }
+        if (System.nanoTime() > e.exp) {
+            stats.recordMiss();
+            if (removeNode(e)) stats.recordExpiration();
+            return Optional.empty();
+        }
+        recordAccess(e);
         return Optional.ofNullable(e.v);
     }
 
+    /**
+     * <summary>Get an item if present and not expired, or {@code null}.</summary>
+     * <remarks>Allocation-free variant of {@link #get(Object)} for hot paths; cannot distinguish a cached {@code null}.</remarks>
+     */
+    public V getIfPresent(final K key) {
+        Objects.requireNonNull(key, "key");
+        final Node<K, V> e = map.get(key);
+        if (e == null || System.nanoTime() > e.exp) { stats.recordMiss(); return null; }
+        recordAccess(e);
+        return e.v;
+    }
+
     /**
      * <summary>Get or load value (loader takes the key), installing with TTL on miss.</summary>
+     * <remarks>
+     * If another thread is already loading the key, waits for and returns its result instead.
+     * Throws {@link IllegalStateException} if called from this key's own loader.
+     * </remarks>
      */
     public V get(final K key, final Function<K, V> loaderIfMiss) {
         Objects.requireNonNull(key, "key");
         Objects.requireNonNull(loaderIfMiss, "loaderIfMiss");
         final long now = System.nanoTime();
-        final Entry<V> e = map.get(key);
-        if (e != null && now <= e.exp) return e.v;
-        final V v = loaderIfMiss.apply(key);
-        map.put(key, new Entry<>(v, now + ttlNanos));
-        return v;
+        final Node<K, V> e = map.get(key);
+        if (e != null && now <= e.exp) {
+            recordAccess(e);
+            if (needsRefresh(e, now)) refresh(e, loaderIfMiss);
+            return e.v;
+        }
+        return load(key, loaderIfMiss);
+    }
+
+    /**
+     * <summary>Get or load value, passing {@code argument} through to the loader.</summary>
+     * <remarks>
+     * Same semantics as {@link #get(Object, Function)}. Lets callers hand the loader state they already hold
+     * without a capturing lambda, so a hit stays allocation-free; the loader is only wrapped on a miss or refresh.
+     * </remarks>
+     */
+    public <A> V get(final K key, final A argument, final BiFunction<? super K, ? super A, ? extends V> loaderIfMiss) {
+        Objects.requireNonNull(key, "key");
+        Objects.requireNonNull(loaderIfMiss, "loaderIfMiss");
+        final long now = System.nanoTime();
+        final Node<K, V> e = map.get(key);
+        if (e != null && now <= e.exp) {
+            recordAccess(e);
+            if (needsRefresh(e, now)) refresh(e, k -> loaderIfMiss.apply(k, argument));
+            return e.v;
+        }
+        return load(key, k -> loaderIfMiss.apply(k, argument));
+    }
+
+    /**
+     * <summary>Asynchronous get-or-load; on miss the loader runs on the cache's executor.</summary>
+     * <remarks>
+     * Hits complete immediately on the calling thread. Misses join any load already in flight for the key
+     * (sync or async). Caches created through {@link Services} load on {@link Scheduler#async(Runnable)}.
+     * </remarks>
+     * <example>
+     * <code>
+     * cache.getAsync(uuid, id -> lookup(id)).thenAccept(v -> Services.scheduler().main(() -> use(v)));
+     * </code>
+     * </example>
+     */
+    public CompletableFuture<V> getAsync(final K key, final Function<K, V> loaderIfMiss) {
+        Objects.requireNonNull(key, "key");
+        Objects.requireNonNull(loaderIfMiss, "loaderIfMiss");
+        final long now = System.nanoTime();
+        final Node<K, V> e = map.get(key);
+        if (e != null && now <= e.exp) {
+            recordAccess(e);
+            if (needsRefresh(e, now)) refresh(e, loaderIfMiss);
+            return CompletableFuture.completedFuture(e.v);
+        }
+
+        stats.recordMiss();
+        final Load<V> mine = new Load<>();
+        final Load<V> existing = loading.putIfAbsent(key, mine);
+        if (existing != null) return existing;
+        try {
+            executor.execute(() -> runLoad(key, loaderIfMiss, mine, null));
+        } catch (Throwable t) {
+            loading.remove(key, mine);
+            mine.completeExceptionally(t);
+        }
+        return mine;
     }
 
     /**
@@ -72,11 +271,13 @@ public final class ExpiringCache<K, V> {
         Objects.requireNonNull(key, "key");
         Objects.requireNonNull(loaderIfMiss, "loaderIfMiss");
         final long now = System.nanoTime();
-        final Entry<V> e = map.get(key);
-        if (e != null && now <= e.exp) return e.v;
-        final V v = loaderIfMiss.get();
-        map.put(key, new Entry<>(v, now + ttlNanos));
-        return v;
+        final Node<K, V> e = map.get(key);
+        if (e != null && now <= e.exp) {
+            recordAccess(e);
+            if (needsRefresh(e, now)) refresh(e, k -> loaderIfMiss.get());
+            return e.v;
+        }
+        return load(key, k -> loaderIfMiss.get());
     }
 
     /**
@@ -84,17 +285,421 @@ public final class ExpiringCache<K, V> {
      */
     public void put(final K key, final V value) {
         Objects.requireNonNull(key, "key");
-        final long exp = System.nanoTime() + ttlNanos;
-        map.put(key, new Entry<>(value, exp));
+        install(key, value, System.nanoTime());
     }
 
     /**
      * <summary>Invalidate a single key.</summary>
      */
-    public void invalidate(final K key) { Objects.requireNonNull(key, "key"); map.remove(key); }
+    public void invalidate(final K key) {
+        Objects.requireNonNull(key, "key");
+        if (!bounded()) {
+            // The loading bin orders this against installLoaded, so a load that loses the race stays out.
+            loading.compute(key, (k, load) -> {
+                final Node<K, V> n = map.remove(k);
+                if (n != null) timerBuffer.add(n);
+                return null;
+            });
+            drainTimerBufferIfFree();
+            return;
+        }
+        evictionLock.lock();
+        try {
+            loading.remove(key);
+            final Node<K, V> n = map.remove(key);
+            if (n != null) unlink(n);
+        } finally {
+            evictionLock.unlock();
+        }
+    }
 
     /**
      * <summary>Invalidate all entries.</summary>
      */
-    public void invalidateAll() { map.clear(); }
-}
\ No newline at end of file
+    public void invalidateAll() {
+        evictionLock.lock();
+        try {
+            loading.clear();
+            timerBuffer.clear();
+            map.clear();
+            window.clear();
+            main.clear();
+            timerWheel.clear();
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    /**
+     * <summary>Reclaim entries whose TTL has passed.</summary>
+     * <remarks>
+     * Cost is proportional to the number of expired entries, never to the cache size, and at most
+     * {@value #SWEEP_BUDGET} entries are removed per call. Skips immediately if a writer holds the lock.
+     * </remarks>
+     * <returns>Number of entries reclaimed.</returns>
+     */
+    @Override
+    public int cleanUp() {
+        if (!evictionLock.tryLock()) return 0;
+        try {
+            drainTimerBuffer();
+            final int expired = timerWheel.advance(System.nanoTime(), SWEEP_BUDGET, this::expireNode);
+            stats.recordExpirations(expired);
+            return expired;
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    /**
+     * <summary>Name this cache was registered under (see {@link Services#caches()}).</summary>
+     */
+    public String name() { return name; }
+
+    /**
+     * <summary>Live statistics for this cache.</summary>
+     */
+    public CacheStats stats() { return stats; }
+
+    /**
+     * <summary>Approximate number of entries, including expired ones not yet reclaimed.</summary>
+     */
+    public long estimatedSize() { return map.size(); }
+
+    /**
+     * <summary>Current total weight of a bounded cache (entry count when no weigher is set); 0 if unbounded.</summary>
+     */
+    public long weightedSize() {
+        if (!bounded()) return 0L;
+        evictionLock.lock();
+        try {
+            return window.weight + main.weight;
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    /**
+     * <summary>Maximum weight (or size) of a bounded cache; {@code -1} if unbounded.</summary>
+     */
+    public long maximumWeight() { return maximumWeight; }
+
+    private boolean bounded() { return maximumWeight >= 0L; }
+
+    /** Single-flight synchronous load: the first caller runs the loader, concurrent callers wait on its future. */
+    private V load(final K key, final Function<K, V> loader) {
+        stats.recordMiss();
+        final Load<V> mine = new Load<>();
+        final Load<V> existing = loading.putIfAbsent(key, mine);
+        if (existing != null) {
+            if (existing.thread == Thread.currentThread()) {
+                throw new IllegalStateException("Recursive load of " + key + " in cache " + name);
+            }
+            return join(existing);
+        }
+        runLoad(key, loader, mine, null);
+        return join(mine);
+    }
+
+    private boolean needsRefresh(final Node<K, V> e, final long now) {
+        return refreshNanos > 0L && now - e.refreshAt >= 0L && e.refreshing == 0;
+    }
+
+    /**
+     * Starts one background reload for a stale-but-live entry; readers keep the current value meanwhile.
+     * A failed reload clears the node's flag, so a later read retries it.
+     */
+    private void refresh(final Node<K, V> e, final Function<K, V> loader) {
+        if (!REFRESHING.compareAndSet(e, 0, 1)) return;
+        final Load<V> mine = new Load<>();
+        if (loading.putIfAbsent(e.key, mine) != null) {
+            e.refreshing = 0;
+            return;
+        }
+        try {
+            executor.execute(() -> runLoad(e.key, loader, mine, e));
+        } catch (Throwable t) {
+            loading.remove(e.key, mine);
+            e.refreshing = 0;
+            mine.completeExceptionally(t);
+        }
+    }
+
+    /** {@code refreshed} is the live node being reloaded, or {@code null} for a miss. */
+    private void runLoad(final K key, final Function<K, V> loader, final Load<V> future, final Node<K, V> refreshed) {
+        future.thread = Thread.currentThread();
+        try {
+            final Node<K, V> e = refreshed != null ? null : map.get(key);
+            if (e != null && System.nanoTime() <= e.exp) {
+                loading.remove(key, future);
+                future.complete(e.v);
+                return;
+            }
+            final long start = System.nanoTime();
+            final V v;
+            try {
+                v = loader.apply(key);
+            } catch (Throwable t) {
+                stats.recordLoad(System.nanoTime() - start, false);
+                throw t;
+            }
+            stats.recordLoad(System.nanoTime() - start, true);
+            installLoaded(key, v, future);
+            future.thread = null;
+            future.complete(v);
+        } catch (Throwable t) {
+            loading.remove(key, future);
+            if (refreshed != null) refreshed.refreshing = 0;
+            future.thread = null;
+            future.completeExceptionally(t);
+        }
+    }
+
+    private static <V> V join(final CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException ce) {
+            final Throwable cause = ce.getCause();
+            if (cause instanceof RuntimeException re) throw re;
+            if (cause instanceof Error err) throw err;
+            throw ce;
+        }
+    }
+
+    /** Installs only if the load is still current, i.e. the key was not invalidated meanwhile. */
+    private void installLoaded(final K key, final V value, final Load<V> future) {
+        if (!bounded()) {
+            final long now = System.nanoTime();
+            loading.computeIfPresent(key, (k, load) -> {
+                if (load != future) return load;
+                putUnbounded(k, value, now);
+                return null;
+            });
+            drainTimerBufferIfFree();
+            return;
+        }
+        evictionLock.lock();
+        try {
+            if (loading.remove(key, future)) install(key, value, System.nanoTime());
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private void install(final K key, final V value, final long now) {
+        if (!bounded()) {
+            putUnbounded(key, value, now);
+            drainTimerBufferIfFree();
+            return;
+        }
+        final int weight = weigh(key, value);
+        final Node<K, V> n = new Node<>(key, value, now + ttlNanos, now + refreshNanos, weight);
+        evictionLock.lock();
+        try {
+            final Node<K, V> old = map.put(key, n);
+            if (old != null) timerWheel.deschedule(old);
+            timerWheel.schedule(n);
+            sketch.increment(key);
+            if (old != null && old.queue == MAIN) {
+                unlink(old);
+                n.queue = MAIN;
+                main.linkLast(n);
+            } else {
+                if (old != null) unlink(old);
+                n.queue = WINDOW;
+                window.linkLast(n);
+            }
+            evict();
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    /** Lock-free write for unbounded caches; the new and replaced nodes are reconciled with the wheel later. */
+    private void putUnbounded(final K key, final V value, final long now) {
+        final Node<K, V> n = new Node<>(key, value, now + ttlNanos, now + refreshNanos, 1);
+        final Node<K, V> old = map.put(key, n);
+        timerBuffer.add(n);
+        if (old != null) timerBuffer.add(old);
+    }
+
+    private void drainTimerBufferIfFree() {
+        if (timerBuffer.isEmpty() || !evictionLock.tryLock()) return;
+        try {
+            drainTimerBuffer();
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    /** Must hold the eviction lock. Schedules buffered nodes that are still mapped and deschedules the rest. */
+    private void drainTimerBuffer() {
+        Node<K, V> n;
+        while ((n = timerBuffer.poll()) != null) {
+            if (map.get(n.key) == n) {
+                if (n.nextInTimer == null) timerWheel.schedule(n);
+            } else {
+                timerWheel.deschedule(n);
+            }
+        }
+    }
+
+    private int weigh(final K key, final V value) {
+        if (weigher == null) return 1;
+        final int w = weigher.applyAsInt(key, value);
+        if (w < 0) throw new IllegalArgumentException("weigher returned negative weight for " + key);
+        return w;
+    }
+
+    /**
+     * Must hold the eviction lock. Demotes window overflow to the tail of the main queue, then evicts until under
+     * the bound. Each demoted entry is a candidate that must beat the main queue's LRU victim on
+     * {@link FrequencySketch} estimate to stay; without a candidate the victim goes.
+     */
+    private void evict() {
+        Node<K, V> candidate = null;
+        while (window.weight > windowMaximum && window.head != null) {
+            final Node<K, V> n = window.head;
+            window.unlink(n);
+            n.queue = MAIN;
+            main.linkLast(n);
+            if (candidate == null) candidate = n;
+        }
+        while (window.weight + main.weight > maximumWeight) {
+            final Node<K, V> victim = main.head;
+            if (victim == null) {
+                evictNode(window.head);
+            } else if (candidate == null) {
+                evictNode(victim);
+            } else if (candidate == victim) {
+                candidate = candidate.next;
+                evictNode(victim);
+            } else if (sketch.frequency(candidate.key) > sketch.frequency(victim.key)) {
+                evictNode(victim);
+            } else {
+                final Node<K, V> loser = candidate;
+                candidate = candidate.next;
+                evictNode(loser);
+            }
+        }
+    }
+
+    private void evictNode(final Node<K, V> n) {
+        unlink(n);
+        if (map.remove(n.key, n)) stats.recordEviction();
+    }
+
+    private void unlink(final Node<K, V> n) {
+        timerWheel.deschedule(n);
+        if (n.queue == WINDOW) window.unlink(n);
+        else if (n.queue == MAIN) main.unlink(n);
+        n.queue = UNLINKED;
+    }
+
+    /** Timer wheel callback; the node is already descheduled. Must hold the eviction lock. */
+    @SuppressWarnings("unchecked")
+    private void expireNode(final TimerWheel.Timed timed) {
+        final Node<K, V> n = (Node<K, V>) timed;
+        if (map.remove(n.key, n)) unlink(n);
+    }
+
+    private boolean removeNode(final Node<K, V> n) {
+        if (!bounded()) {
+            if (!map.remove(n.key, n)) return false;
+            timerBuffer.add(n);
+            drainTimerBufferIfFree();
+            return true;
+        }
+        evictionLock.lock();
+        try {
+            if (!map.remove(n.key, n)) return false;
+            unlink(n);
+            return true;
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    /** Counts the hit; reordering is lossy and skipped when another thread holds the lock so reads never block. */
+    private void recordAccess(final Node<K, V> n) {
+        stats.recordHit();
+        if (!bounded() || !evictionLock.tryLock()) return;
+        try {
+            sketch.increment(n.key);
+            if (n.queue == WINDOW) window.moveToLast(n);
+            else if (n.queue == MAIN) main.moveToLast(n);
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    /**
+     * <summary>Fluent configuration for {@link ExpiringCache}.</summary>
+     */
+    public static final class Builder<K, V> {
+        private final Duration ttl;
+        private String name = "anonymous";
+        private long maximumWeight = -1L;
+        private ToIntBiFunction<? super K, ? super V> weigher;
+        private Executor executor = ForkJoinPool.commonPool();
+        private Duration refreshAfter;
+
+        private Builder(final Duration ttl) {
+            this.ttl = Objects.requireNonNull(ttl, "ttl");
+        }
+
+        /**
+         * <summary>Label used for diagnostics; {@link Services} sets it to the registry name.</summary>
+         */
+        public Builder<K, V> name(final String name) {
+            this.name = Objects.requireNonNull(name, "name");
+            return this;
+        }
+
+        /**
+         * <summary>Bound the cache to at most {@code maximumSize} entries.</summary>
+         */
+        public Builder<K, V> maximumSize(final long maximumSize) {
+            if (maximumSize <= 0L) throw new IllegalArgumentException("maximumSize must be > 0");
+            if (weigher != null) throw new IllegalStateException("maximumWeight already set");
+            this.maximumWeight = maximumSize;
+            return this;
+        }
+
+        /**
+         * <summary>Bound the cache by the summed weight of its entries.</summary>
+         */
+        public Builder<K, V> maximumWeight(final long maximumWeight, final ToIntBiFunction<? super K, ? super V> weigher) {
+            if (maximumWeight <= 0L) throw new IllegalArgumentException("maximumWeight must be > 0");
+            this.maximumWeight = maximumWeight;
+            this.weigher = Objects.requireNonNull(weigher, "weigher");
+            return this;
+        }
+
+        /**
+         * <summary>Executor used by {@link ExpiringCache#getAsync}; defaults to the common fork-join pool.</summary>
+         */
+        public Builder<K, V> executor(final Executor executor) {
+            this.executor = Objects.requireNonNull(executor, "executor");
+            return this;
+        }
+
+        /**
+         * <summary>Reload entries in the background once they are older than {@code refreshAfter}.</summary>
+         * <remarks>Must be shorter than the TTL. Only reads that supply a loader trigger a refresh.</remarks>
+         */
+        public Builder<K, V> refreshAfter(final Duration refreshAfter) {
+            Objects.requireNonNull(refreshAfter, "refreshAfter");
+            if (refreshAfter.isZero() || refreshAfter.isNegative()) throw new IllegalArgumentException("refreshAfter must be > 0");
+            this.refreshAfter = refreshAfter;
+            return this;
+        }
+
+        public ExpiringCache<K, V> build() {
+            if (refreshAfter != null && refreshAfter.compareTo(ttl) >= 0) {
+                throw new IllegalArgumentException("refreshAfter must be shorter than ttl");
+            }
+            return new ExpiringCache<>(this);
+        }
+    }
+}
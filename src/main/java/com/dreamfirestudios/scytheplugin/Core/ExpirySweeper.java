@@ -0,0 +1,64 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dreamfire Studio
+ */
+package com.dreamfirestudios.scytheplugin.Core;
+
+import java.lang.ref.WeakReference;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * <summary>Background driver that reclaims expired entries from tracked {@link ExpiringCache}s and other {@link Sweepable}s.</summary>
+ * <remarks>
+ * <ul>
+ *   <li>Started once from {@link Services#bootstrap} on {@link Scheduler#everyAsync} with a 1 tick period.</li>
+ *   <li>Each pass calls {@link Sweepable#cleanUp()}, which only touches expired entries and is budgeted,
+ *   so the work per tick stays small even after a mass expiry.</li>
+ *   <li>Caches are held weakly; a cache that is no longer referenced drops out on the next pass.</li>
+ * </ul>
+ * </remarks>
+ */
+public final class ExpirySweeper {
+    /**
+     * <summary>Anything holding entries that go stale over time and can reclaim them in small steps.</summary>
+     */
+    public interface Sweepable {
+        /**
+         * <summary>Reclaim a bounded amount of stale state.</summary>
+         * <returns>Number of entries reclaimed.</returns>
+         */
+        int cleanUp();
+    }
+
+    private final CopyOnWriteArrayList<WeakReference<Sweepable>> caches = new CopyOnWriteArrayList<>();
+
+    /**
+     * <summary>Track a cache so its expired entries are reclaimed in the background.</summary>
+     */
+    public <C extends Sweepable> C track(final C cache) {
+        caches.add(new WeakReference<>(Objects.requireNonNull(cache, "cache")));
+        return cache;
+    }
+
+    /**
+     * <summary>Run one sweep over every tracked cache.</summary>
+     */
+    public void sweep() {
+        for (final WeakReference<Sweepable> ref : caches) {
+            final Sweepable cache = ref.get();
+            if (cache == null) caches.remove(ref);
+            else cache.cleanUp();
+        }
+    }
+
+    /**
+     * <summary>Start sweeping every {@code periodTicks} on the async scheduler.</summary>
+     * <returns>Handle for cancellation.</returns>
+     */
+    public TickDispatcher.Job start(final Scheduler scheduler, final long periodTicks) {
+        Objects.requireNonNull(scheduler, "scheduler");
+        return scheduler.everyAsync(periodTicks, this::sweep);
+    }
+}
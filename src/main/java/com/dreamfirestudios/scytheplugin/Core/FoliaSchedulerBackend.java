@@ -0,0 +1,101 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dreamfire Studio
+ */
+package com.dreamfirestudios.scytheplugin.Core;
+
+import io.papermc.paper.threadedregions.scheduler.ScheduledTask;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.entity.Entity;
+import org.bukkit.plugin.Plugin;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * <summary>{@link SchedulerBackend} for Folia's region-threaded server.</summary>
+ * <remarks>
+ * <ul>
+ *   <li>Global work goes to the {@code GlobalRegionScheduler}, entity work to the entity's own scheduler (dropped
+ *   if the entity is removed first), location work to the {@code RegionScheduler}.</li>
+ *   <li>Async delays and periods are converted from ticks at 50 ms per tick, since Folia's async scheduler is
+ *   wall-clock based.</li>
+ *   <li>Folia tasks have no numeric IDs; repeating tasks get synthetic ones, held until cancelled.</li>
+ * </ul>
+ * </remarks>
+ */
+final class FoliaSchedulerBackend implements SchedulerBackend {
+    private static final long MILLIS_PER_TICK = 50L;
+
+    private final Plugin plugin;
+    private final AtomicInteger nextTaskId = new AtomicInteger();
+    private final Map<Integer, ScheduledTask> repeating = new ConcurrentHashMap<>();
+
+    FoliaSchedulerBackend(final Plugin plugin) {
+        this.plugin = plugin;
+    }
+
+    @Override public boolean isGlobalThread() { return Bukkit.isGlobalTickThread(); }
+
+    @Override public boolean owns(final Entity entity) { return Bukkit.isOwnedByCurrentRegion(entity); }
+
+    @Override public boolean owns(final Location location) { return Bukkit.isOwnedByCurrentRegion(location); }
+
+    @Override
+    public void runGlobal(final Runnable task) {
+        Bukkit.getGlobalRegionScheduler().execute(plugin, task);
+    }
+
+    @Override
+    public void runGlobalLater(final Runnable task, final long delayTicks) {
+        Bukkit.getGlobalRegionScheduler().runDelayed(plugin, t -> task.run(), delayTicks);
+    }
+
+    @Override
+    public void runAsync(final Runnable task) {
+        Bukkit.getAsyncScheduler().runNow(plugin, t -> task.run());
+    }
+
+    @Override
+    public void runAsyncLater(final Runnable task, final long delayTicks) {
+        Bukkit.getAsyncScheduler().runDelayed(plugin, t -> task.run(), delayTicks * MILLIS_PER_TICK, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void runForEntity(final Entity entity, final Runnable task, final long delayTicks) {
+        entity.getScheduler().execute(plugin, task, null, Math.max(1L, delayTicks));
+    }
+
+    @Override
+    public void runAtLocation(final Location location, final Runnable task, final long delayTicks) {
+        if (delayTicks <= 0L) Bukkit.getRegionScheduler().execute(plugin, location, task);
+        else Bukkit.getRegionScheduler().runDelayed(plugin, location, t -> task.run(), delayTicks);
+    }
+
+    @Override
+    public int repeatGlobal(final Runnable task, final long delayTicks, final long periodTicks) {
+        return track(Bukkit.getGlobalRegionScheduler().runAtFixedRate(plugin, t -> task.run(), delayTicks, periodTicks));
+    }
+
+    @Override
+    public int repeatAsync(final Runnable task, final long delayTicks, final long periodTicks) {
+        return track(Bukkit.getAsyncScheduler().runAtFixedRate(plugin, t -> task.run(),
+                delayTicks * MILLIS_PER_TICK, periodTicks * MILLIS_PER_TICK, TimeUnit.MILLISECONDS));
+    }
+
+    @Override
+    public void cancel(final int taskId) {
+        final ScheduledTask task = repeating.remove(taskId);
+        if (task != null) task.cancel();
+    }
+
+    private int track(final ScheduledTask task) {
+        final int id = nextTaskId.incrementAndGet();
+        repeating.put(id, task);
+        return id;
+    }
+}
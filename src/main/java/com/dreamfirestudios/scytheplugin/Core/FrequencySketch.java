@@ -0,0 +1,102 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dreamfire Studio
+ */
+package com.dreamfirestudios.scytheplugin.Core;
+
+/**
+ * <summary>Count-min sketch of 4-bit counters used as the TinyLFU admission filter.</summary>
+ * <remarks>
+ * Estimates how often a key was seen recently. Counters saturate at 15 and are halved once
+ * the number of recorded increments reaches ten times the table width, so old popularity decays.
+ * Not thread-safe; {@link ExpiringCache} only touches it while holding its eviction lock.
+ * </remarks>
+ */
+final class FrequencySketch {
+    private static final long[] SEEDS = {
+            0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L
+    };
+    private static final long RESET_MASK = 0x7777777777777777L;
+
+    private final long[] table;
+    private final int tableMask;
+    private final int sampleSize;
+    private int size;
+
+    /**
+     * <summary>Create a sketch sized for roughly {@code expectedEntries} distinct keys.</summary>
+     */
+    FrequencySketch(final long expectedEntries) {
+        final int width = ceilingPowerOfTwo((int) Math.min(Math.max(expectedEntries, 16L), 1L << 24));
+        this.table = new long[width];
+        this.tableMask = width - 1;
+        this.sampleSize = 10 * width;
+    }
+
+    /**
+     * <summary>Estimated recent frequency of the key (0..15).</summary>
+     */
+    int frequency(final Object key) {
+        final int hash = spread(key.hashCode());
+        int min = 15;
+        for (int i = 0; i < 4; i++) {
+            min = Math.min(min, counter(hash, i));
+        }
+        return min;
+    }
+
+    /**
+     * <summary>Record one occurrence of the key.</summary>
+     */
+    void increment(final Object key) {
+        final int hash = spread(key.hashCode());
+        boolean added = false;
+        for (int i = 0; i < 4; i++) {
+            added |= incrementAt(hash, i);
+        }
+        if (added && ++size >= sampleSize) reset();
+    }
+
+    private int counter(final int hash, final int row) {
+        final int index = indexOf(hash, row);
+        final int shift = offsetOf(hash, row) << 2;
+        return (int) ((table[index] >>> shift) & 0xfL);
+    }
+
+    private boolean incrementAt(final int hash, final int row) {
+        final int index = indexOf(hash, row);
+        final int shift = offsetOf(hash, row) << 2;
+        final long mask = 0xfL << shift;
+        if ((table[index] & mask) == mask) return false;
+        table[index] += 1L << shift;
+        return true;
+    }
+
+    /** Halve every counter so the sketch favours recent history. */
+    private void reset() {
+        for (int i = 0; i < table.length; i++) {
+            table[i] = (table[i] >>> 1) & RESET_MASK;
+        }
+        size >>>= 1;
+    }
+
+    private int indexOf(final int hash, final int row) {
+        long h = (hash + SEEDS[row]) * SEEDS[row];
+        h += h >>> 32;
+        return ((int) h) & tableMask;
+    }
+
+    private static int offsetOf(final int hash, final int row) {
+        return (hash >>> (row << 3)) & 15;
+    }
+
+    private static int spread(final int x) {
+        int h = x * 0x9e3779b9;
+        return h ^ (h >>> 16);
+    }
+
+    private static int ceilingPowerOfTwo(final int x) {
+        return 1 << -Integer.numberOfLeadingZeros(x - 1);
+    }
+}
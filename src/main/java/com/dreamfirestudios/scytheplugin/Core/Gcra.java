@@ -0,0 +1,89 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dreamfire Studio
+ */
+package com.dreamfirestudios.scytheplugin.Core;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <summary>Generic cell rate algorithm steps shared by {@link RateLimiter} and {@link KeyedRateLimiter}.</summary>
+ * <remarks>
+ * <ul>
+ *   <li>The state is one theoretical arrival time (TAT) in {@link System#nanoTime()} units. A grant moves it
+ *   forward by the cost with a CAS; a denial only reads it.</li>
+ *   <li>{@link #UNSET} marks a TAT that has never been written, which behaves like a full bucket.</li>
+ *   <li>Times are compared by difference, so they stay correct when {@code nanoTime} wraps.</li>
+ * </ul>
+ * </remarks>
+ */
+final class Gcra {
+    /** TAT of a limiter that has never granted anything. */
+    static final long UNSET = Long.MIN_VALUE;
+
+    /** Upper bound on a single cost or tolerance, far enough from overflow for TAT arithmetic. */
+    static final long MAX_NANOS = Long.MAX_VALUE / 4;
+
+    private Gcra() {}
+
+    /**
+     * TAT advance for a grant: rounded up, never below 1 ns. Rounding to nearest would make every grant free once
+     * the interval drops under 0.5 ns, and would let the rate drift above the configured one.
+     */
+    static long costNanos(final double nanos) {
+        return nanos >= MAX_NANOS ? MAX_NANOS : Math.max(1L, (long) Math.ceil(nanos));
+    }
+
+    /** Grant {@code cost} if the TAT stays within {@code tolerance} of now. */
+    static boolean tryAcquire(final AtomicLong tat, final long cost, final long tolerance) {
+        while (true) {
+            final long now = System.nanoTime();
+            final long current = tat.get();
+            final long next = start(current, now) + cost;
+            if (next - now > tolerance) return false;
+            if (tat.compareAndSet(current, next)) return true;
+        }
+    }
+
+    /**
+     * Book {@code cost} even past {@code tolerance}, as long as the caller would wait at most {@code maxWaitNanos}.
+     *
+     * @return nanos the caller must wait (0 when available now), or -1 if the wait would exceed {@code maxWaitNanos}.
+     */
+    static long reserve(final AtomicLong tat, final long cost, final long tolerance, final long maxWaitNanos) {
+        while (true) {
+            final long now = System.nanoTime();
+            final long current = tat.get();
+            final long next = start(current, now) + cost;
+            final long wait = Math.max(0L, next - now - tolerance);
+            if (wait > maxWaitNanos) return -1L;
+            if (tat.compareAndSet(current, next)) return wait;
+        }
+    }
+
+    /** Give back a reservation of {@code cost} that was never used. Never moves the TAT behind now. */
+    static void refund(final AtomicLong tat, final long cost) {
+        while (true) {
+            final long now = System.nanoTime();
+            final long current = tat.get();
+            if (isIdle(current, now)) return;
+            final long next = current - cost - now < 0L ? now : current - cost;
+            if (tat.compareAndSet(current, next)) return;
+        }
+    }
+
+    /** Whether a TAT has fully caught up with {@code now}, i.e. the bucket is full again. */
+    static boolean isIdle(final long tat, final long now) {
+        return tat == UNSET || tat - now <= 0L;
+    }
+
+    /** Nanos the TAT is ahead of {@code now}. */
+    static long ahead(final long tat, final long now) {
+        return tat == UNSET ? 0L : Math.max(0L, tat - now);
+    }
+
+    private static long start(final long tat, final long now) {
+        return tat == UNSET || tat - now < 0L ? now : tat;
+    }
+}
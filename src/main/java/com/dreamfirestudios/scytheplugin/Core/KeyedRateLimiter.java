@@ -0,0 +1,137 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dreamfire Studio
+ */
+package com.dreamfirestudios.scytheplugin.Core;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <summary>Independent {@link RateLimiter}-style budget per key (typically a player UUID).</summary>
+ * <remarks>
+ * <ul>
+ *   <li>Same GCRA step as {@link RateLimiter} (see {@link Gcra}): each key holds one theoretical arrival time,
+ *   updated by CAS, and costs are rounded up to whole nanoseconds.</li>
+ *   <li>Keys are spread over {@value #STRIPES} maps so a sweep can walk one stripe at a time.</li>
+ *   <li>A key whose bucket has refilled completely is indistinguishable from an unknown key, so {@link #cleanUp()}
+ *   drops it; memory tracks recently active keys only. Caches from {@link Services#keyedRateLimiter} are swept
+ *   every tick.</li>
+ *   <li>A grant racing with the removal of its key may be forgotten, which at worst allows one extra permit.</li>
+ * </ul>
+ * </remarks>
+ * <example>
+ * <code>
+ * KeyedRateLimiter&lt;UUID&gt; reloads = KeyedRateLimiter.of(1, Duration.ofSeconds(5));
+ * if (!reloads.tryAcquire(player.getUniqueId())) return; // too soon
+ * </code>
+ * </example>
+ */
+public final class KeyedRateLimiter<K> implements ExpirySweeper.Sweepable {
+    private static final int STRIPES = 16;
+
+    private final int permits;
+    private final long windowNanos;
+    private final double intervalNanos;
+    private final long toleranceNanos;
+    @SuppressWarnings("unchecked")
+    private final Map<K, AtomicLong>[] stripes = new Map[STRIPES];
+    private final AtomicInteger sweepCursor = new AtomicInteger();
+
+    private KeyedRateLimiter(final int permits, final long windowNanos) {
+        this.permits = permits;
+        this.windowNanos = windowNanos;
+        this.intervalNanos = windowNanos / (double) permits;
+        this.toleranceNanos = windowNanos;
+        for (int i = 0; i < STRIPES; i++) stripes[i] = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * <summary>Create a limiter that allows each key {@code permits} per {@code window}.</summary>
+     */
+    public static <K> KeyedRateLimiter<K> of(final int permits, final Duration window) {
+        Objects.requireNonNull(window, "window");
+        if (permits <= 0) throw new IllegalArgumentException("permits must be > 0");
+        final long nanos = window.toNanos();
+        if (nanos <= 0L) throw new IllegalArgumentException("window must be > 0");
+        return new KeyedRateLimiter<>(permits, nanos);
+    }
+
+    /** Try to acquire a single permit for {@code key}. Non-blocking. */
+    public boolean tryAcquire(final K key) {
+        return tryAcquire(key, 1);
+    }
+
+    /**
+     * Try to acquire {@code n} permits for {@code key}. Non-blocking.
+     *
+     * @return {@code true} if acquired; {@code false} otherwise.
+     */
+    public boolean tryAcquire(final K key, final int n) {
+        Objects.requireNonNull(key, "key");
+        if (n <= 0) throw new IllegalArgumentException("permits must be > 0");
+        if (n > permits) return false;
+        final long cost = Gcra.costNanos(n * intervalNanos);
+        final AtomicLong tat = stripeFor(key).computeIfAbsent(key, k -> new AtomicLong(Gcra.UNSET));
+        return Gcra.tryAcquire(tat, cost, Math.max(toleranceNanos, cost));
+    }
+
+    /** Permits currently available to {@code key} (approximate). */
+    public double availablePermits(final K key) {
+        Objects.requireNonNull(key, "key");
+        final AtomicLong tat = stripeFor(key).get(key);
+        if (tat == null) return permits;
+        final long ahead = Gcra.ahead(tat.get(), System.nanoTime());
+        return Math.max(0.0, Math.min(permits, (toleranceNanos - ahead) / intervalNanos));
+    }
+
+    /** Forget {@code key}, restoring its full budget. */
+    public void invalidate(final K key) {
+        stripeFor(Objects.requireNonNull(key, "key")).remove(key);
+    }
+
+    /** Number of keys currently tracked. */
+    public int trackedKeys() {
+        int size = 0;
+        for (final Map<K, AtomicLong> stripe : stripes) size += stripe.size();
+        return size;
+    }
+
+    /**
+     * <summary>Drop keys whose budget has fully refilled, walking one stripe per call.</summary>
+     * <returns>Number of keys removed.</returns>
+     */
+    @Override
+    public int cleanUp() {
+        final Map<K, AtomicLong> stripe = stripes[sweepCursor.getAndIncrement() & (STRIPES - 1)];
+        final long now = System.nanoTime();
+        int removed = 0;
+        for (final Map.Entry<K, AtomicLong> e : stripe.entrySet()) {
+            final AtomicLong tat = e.getValue();
+            if (Gcra.isIdle(tat.get(), now) && stripe.remove(e.getKey(), tat)) removed++;
+        }
+        return removed;
+    }
+
+    /** Whether this limiter enforces exactly {@code permits} per {@code window}. */
+    boolean hasBudget(final int permits, final Duration window) {
+        return this.permits == permits && this.windowNanos == window.toNanos();
+    }
+
+    private Map<K, AtomicLong> stripeFor(final K key) {
+        final int h = key.hashCode();
+        return stripes[(h ^ (h >>> 16)) & (STRIPES - 1)];
+    }
+
+    @Override
+    public String toString() {
+        return "KeyedRateLimiter{permits=" + permits +
+                ", windowNanos=" + windowNanos +
+                ", trackedKeys=" + trackedKeys() + '}';
+    }
+}
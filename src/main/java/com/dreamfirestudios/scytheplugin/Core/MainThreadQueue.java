@@ -0,0 +1,128 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dreamfire Studio
+ */
+package com.dreamfirestudios.scytheplugin.Core;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * <summary>Work queue for the main thread, drained once per tick within a time budget.</summary>
+ * <remarks>
+ * <ul>
+ *   <li>Any thread may {@link #submit}; only the tick task calls {@link #drain()}. The queue is lock-free, so
+ *   producers never block each other or the main thread.</li>
+ *   <li>{@link #drain()} runs tasks in submission order until the budget is spent; the rest carry over to the
+ *   next tick, so a burst is spread out instead of landing in one tick.</li>
+ *   <li>At least one task runs per drain, so a budget smaller than a single task still makes progress.</li>
+ *   <li>A failing task is logged and does not stop the drain.</li>
+ *   <li>{@link #drainAll()} ignores the budget; {@link Scheduler#shutdown(long)} uses it so queued work, including
+ *   {@link Scheduler#thenMain} hops, still runs instead of being dropped with the tick task.</li>
+ * </ul>
+ * </remarks>
+ */
+public final class MainThreadQueue {
+    /** Default per-tick budget. */
+    public static final Duration DEFAULT_BUDGET = Duration.ofMillis(2);
+
+    private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger depth = new AtomicInteger();
+    private final LongAdder executed = new LongAdder();
+    private final LongAdder carriedOver = new LongAdder();
+    private final Logger logger;
+    private volatile long budgetNanos = DEFAULT_BUDGET.toNanos();
+
+    MainThreadQueue(final Logger logger) {
+        this.logger = logger;
+    }
+
+    /**
+     * <summary>Queue a task for the next drain.</summary>
+     */
+    public void submit(final Runnable task) {
+        Objects.requireNonNull(task, "task");
+        // Count before publishing so a concurrent drain can never take depth below zero.
+        depth.incrementAndGet();
+        tasks.offer(task);
+    }
+
+    /**
+     * <summary>Run queued tasks until the queue is empty or the budget is spent.</summary>
+     * <returns>Number of tasks run.</returns>
+     */
+    public int drain() {
+        final long deadline = System.nanoTime() + budgetNanos;
+        int ran = 0;
+        Runnable task;
+        while ((task = tasks.poll()) != null) {
+            run(task);
+            ran++;
+            if (System.nanoTime() - deadline >= 0L) break;
+        }
+        executed.add(ran);
+        if (depth.get() > 0) carriedOver.increment();
+        return ran;
+    }
+
+    /**
+     * <summary>Run every queued task, ignoring the budget, until the queue is empty.</summary>
+     * <remarks>Main thread only. Tasks queued by the tasks being run are run as well.</remarks>
+     * <returns>Number of tasks run.</returns>
+     */
+    public int drainAll() {
+        int ran = 0;
+        Runnable task;
+        while ((task = tasks.poll()) != null) {
+            run(task);
+            ran++;
+        }
+        executed.add(ran);
+        return ran;
+    }
+
+    private void run(final Runnable task) {
+        depth.decrementAndGet();
+        try {
+            task.run();
+        } catch (Throwable t) {
+            logger.log(Level.SEVERE, "Main-thread task failed", t);
+        }
+    }
+
+    /** Tasks currently waiting. */
+    public int depth() {
+        return depth.get();
+    }
+
+    /** Tasks run since start. */
+    public long executed() {
+        return executed.sum();
+    }
+
+    /** Drains that ended with work left for the next tick. */
+    public long carriedOver() {
+        return carriedOver.sum();
+    }
+
+    /** Current per-tick budget. */
+    public Duration budget() {
+        return Duration.ofNanos(budgetNanos);
+    }
+
+    /**
+     * <summary>Change the per-tick budget; takes effect on the next drain.</summary>
+     */
+    public void budget(final Duration budget) {
+        Objects.requireNonNull(budget, "budget");
+        if (budget.isNegative() || budget.isZero()) throw new IllegalArgumentException("budget must be > 0");
+        this.budgetNanos = budget.toNanos();
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dreamfire Studio
+ */
+package com.dreamfirestudios.scytheplugin.Core.Permission;
+
+import com.dreamfirestudios.scytheplugin.Enum.ScythePluginPermissionLevel;
+import com.dreamfirestudios.scytheplugin.Enum.ScythePluginPermissions;
+import com.dreamfirestudios.scytheplugin.Util.PermissionStrings;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * <summary>Everything a permission check needs for one {@link ScythePluginPermissions}, resolved ahead of time.</summary>
+ * <remarks>
+ * Built once per config load by {@link #table}; checks then only read these fields and never format node strings.
+ * The denial is kept as raw text so it is still rendered with the caller's message settings.
+ * </remarks>
+ *
+ * @param adminNode  concrete Admin-level node, e.g. {@code ScythePlugin.Admin.ReloadConfigs}
+ * @param playerNode concrete Player-level node, e.g. {@code ScythePlugin.Player.ReloadConfigs}
+ * @param denialText denial line sent when neither node is granted
+ */
+public record ResolvedNodes(String adminNode, String playerNode, String denialText) {
+
+    public ResolvedNodes {
+        Objects.requireNonNull(adminNode, "adminNode");
+        Objects.requireNonNull(playerNode, "playerNode");
+        Objects.requireNonNull(denialText, "denialText");
+    }
+
+    /**
+     * <summary>Resolve every permission into an immutable table.</summary>
+     * <param name="pluginName">Plugin name used as the first node segment.</param>
+     * <param name="formatOf">Node format for a permission (e.g. {@code "%s.%s.ReloadConfigs"}).</param>
+     * <returns>Unmodifiable {@link EnumMap} containing every constant.</returns>
+     */
+    public static Map<ScythePluginPermissions, ResolvedNodes> table(final String pluginName,
+                                                                   final Function<ScythePluginPermissions, String> formatOf) {
+        Objects.requireNonNull(pluginName, "pluginName");
+        Objects.requireNonNull(formatOf, "formatOf");
+        final EnumMap<ScythePluginPermissions, ResolvedNodes> table = new EnumMap<>(ScythePluginPermissions.class);
+        for (final ScythePluginPermissions perm : ScythePluginPermissions.values()) {
+            final String format = Objects.requireNonNull(formatOf.apply(perm), "format");
+            table.put(perm, new ResolvedNodes(
+                    PermissionStrings.resolve(format, pluginName, ScythePluginPermissionLevel.Admin),
+                    PermissionStrings.resolve(format, pluginName, ScythePluginPermissionLevel.Player),
+                    perm.GetError()));
+        }
+        return Collections.unmodifiableMap(table);
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dreamfire Studio
+ */
+package com.dreamfirestudios.scytheplugin.Core.Permission;
+
+import com.dreamfirestudios.scytheplugin.Core.ExpiringCache;
+import com.dreamfirestudios.scytheplugin.Core.Services;
+import com.dreamfirestudios.scytheplugin.Enum.ScythePluginPermissions;
+import org.bukkit.entity.Player;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.BiFunction;
+
+/**
+ * <summary>Per-player permission results packed into a bitset indexed by {@link ScythePluginPermissions#ordinal()}.</summary>
+ * <remarks>
+ * <ul>
+ *   <li>Each player maps to one immutable, fully resolved {@link State} holding a {@code granted} mask.</li>
+ *   <li>A hit is a UUID map lookup plus one bit test; with a non-capturing resolver it allocates nothing.</li>
+ *   <li>{@link #get} reads through a resolver with refresh-ahead: a state older than the refresh interval is
+ *   still returned, and one background re-resolve replaces it, so active players never pay a synchronous miss and
+ *   a missed invalidation heals within the refresh interval.</li>
+ *   <li>States live in a bounded, swept {@link ExpiringCache}, so offline players are reclaimed after the TTL.</li>
+ *   <li>{@link #invalidate} and {@link #invalidateAll} also cancel resolves in flight: the underlying
+ *   {@link ExpiringCache} drops a load that races an invalidation, so a result resolved before it is never stored
+ *   after it.</li>
+ * </ul>
+ * </remarks>
+ * <example>
+ * <code>
+ * boolean canReload = cache.get(player, RESOLVER).isGranted(ScythePluginPermissions.ReloadConfigs);
+ * </code>
+ * </example>
+ */
+public final class ScythePluginPermissionCache {
+
+    static {
+        if (ScythePluginPermissions.values().length > Long.SIZE) {
+            throw new IllegalStateException("ScythePluginPermissions no longer fits in a 64-bit mask");
+        }
+    }
+
+    /** Mask with one bit per {@link ScythePluginPermissions} constant. */
+    private static final long ALL = ScythePluginPermissions.values().length == Long.SIZE
+            ? -1L : (1L << ScythePluginPermissions.values().length) - 1L;
+
+    /**
+     * <summary>Immutable resolved-permission snapshot for one player.</summary>
+     */
+    public static final class State {
+        private final long granted;
+
+        private State(final long granted) {
+            this.granted = granted;
+        }
+
+        /** Resolved result for {@code perm}. */
+        public boolean isGranted(final ScythePluginPermissions perm) { return (granted & bit(perm)) != 0L; }
+
+        /**
+         * <summary>A fully resolved state.</summary>
+         * <param name="granted">Bit {@code ordinal()} set for every granted permission.</param>
+         */
+        public static State resolved(final long granted) {
+            return new State(granted & ALL);
+        }
+    }
+
+    private final ExpiringCache<UUID, State> states;
+
+    /**
+     * <summary>Create a cache registered in {@link Services} under {@code name}.</summary>
+     * <param name="ttl">How long a player's resolved bits stay valid.</param>
+     * <param name="refreshAfter">Age after which {@link #get} re-resolves a state in the background; shorter than {@code ttl}.</param>
+     * <param name="maxPlayers">Upper bound on players tracked at once.</param>
+     */
+    public ScythePluginPermissionCache(final String name, final Duration ttl, final Duration refreshAfter, final long maxPlayers) {
+        Objects.requireNonNull(name, "name");
+        Objects.requireNonNull(ttl, "ttl");
+        Objects.requireNonNull(refreshAfter, "refreshAfter");
+        this.states = Services.expiringCache(name,
+                ExpiringCache.<UUID, State>builder(ttl).maximumSize(maxPlayers).refreshAfter(refreshAfter));
+    }
+
+    /**
+     * <summary>Current state for a player, resolving it with {@code resolver} on a miss.</summary>
+     * <remarks>
+     * The resolver gets the {@link Player} passed here, so it never has to look the player up again by UUID.
+     * It runs on the calling thread for a miss and on the async executor for a refresh, so it must be
+     * thread-safe and return a complete state (see {@link State#resolved}). A resolver that throws stores
+     * nothing. Pass a resolver held in a field or constant to keep hits allocation-free.
+     * </remarks>
+     */
+    public State get(final Player player, final BiFunction<? super UUID, ? super Player, State> resolver) {
+        Objects.requireNonNull(player, "player");
+        Objects.requireNonNull(resolver, "resolver");
+        return states.get(player.getUniqueId(), player, resolver);
+    }
+
+    /**
+     * <summary>Forget everything cached for one player.</summary>
+     */
+    public void invalidate(final UUID player) {
+        Objects.requireNonNull(player, "player");
+        states.invalidate(player);
+    }
+
+    /**
+     * <summary>Forget everything cached for all players.</summary>
+     */
+    public void invalidateAll() {
+        states.invalidateAll();
+    }
+
+    private static long bit(final ScythePluginPermissions perm) {
+        return 1L << perm.ordinal();
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dreamfire Studio
+ */
+package com.dreamfirestudios.scytheplugin.Core.Permission;
+
+import com.dreamfirestudios.scytheplugin.Core.EventBus;
+import com.dreamfirestudios.scytheplugin.Core.Services;
+import com.dreamfirestudios.scytheplugin.Event.ScythePluginConfigReloadEvent;
+import com.dreamfirestudios.scytheplugin.Event.ScythePluginConfigResetEvent;
+import net.luckperms.api.LuckPerms;
+import net.luckperms.api.LuckPermsProvider;
+import net.luckperms.api.event.node.NodeMutateEvent;
+import net.luckperms.api.event.user.UserDataRecalculateEvent;
+import net.luckperms.api.event.user.track.UserTrackEvent;
+import net.luckperms.api.model.group.Group;
+import net.luckperms.api.model.user.User;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.plugin.java.JavaPlugin;
+
+import java.util.Objects;
+
+/**
+ * <summary>Keeps a {@link ScythePluginPermissionCache} exact by invalidating it when permissions actually change.</summary>
+ * <remarks>
+ * <ul>
+ *   <li>LuckPerms {@link UserDataRecalculateEvent}, {@link UserTrackEvent} (promote/demote) and user
+ *   {@link NodeMutateEvent}s drop only that user's cached bits.</li>
+ *   <li>Group {@link NodeMutateEvent}s drop the online players holding {@code group.<name>}, i.e. direct and
+ *   inherited members of the changed group. The online-player scan runs on the main thread, since neither
+ *   {@code getOnlinePlayers()} nor {@code hasPermission} is safe on LuckPerms' event threads.</li>
+ *   <li>{@link PlayerQuitEvent} drops the leaving player; config reload/reset drops everything, since node formats may change.
+ *   The config events are received through the internal {@link EventBus} on the posting thread, not via Bukkit.</li>
+ *   <li>LuckPerms events arrive on LuckPerms' own threads. Per-user invalidation only touches the thread-safe
+ *   cache, so it runs there without a hop.</li>
+ * </ul>
+ * With these hooks in place the cache TTL can be long without serving stale grants.
+ * </remarks>
+ */
+public final class ScythePluginPermissionInvalidator implements Listener {
+    private final ScythePluginPermissionCache cache;
+
+    private ScythePluginPermissionInvalidator(final ScythePluginPermissionCache cache) {
+        this.cache = cache;
+    }
+
+    /**
+     * <summary>Subscribe to LuckPerms and Bukkit events on behalf of {@code plugin}.</summary>
+     * <param name="plugin">Owning plugin; subscriptions end with it.</param>
+     * <param name="cache">Cache to keep in sync.</param>
+     */
+    public static void register(final JavaPlugin plugin, final ScythePluginPermissionCache cache) {
+        Objects.requireNonNull(plugin, "plugin");
+        Objects.requireNonNull(cache, "cache");
+        final ScythePluginPermissionInvalidator invalidator = new ScythePluginPermissionInvalidator(cache);
+        Bukkit.getPluginManager().registerEvents(invalidator, plugin);
+        Services.eventBus().subscribe(ScythePluginConfigReloadEvent.class, e -> cache.invalidateAll());
+        Services.eventBus().subscribe(ScythePluginConfigResetEvent.class, e -> cache.invalidateAll());
+
+        final LuckPerms luckPerms = LuckPermsProvider.get();
+        luckPerms.getEventBus().subscribe(plugin, UserDataRecalculateEvent.class, invalidator::onUserDataRecalculate);
+        luckPerms.getEventBus().subscribe(plugin, UserTrackEvent.class, invalidator::onUserTrack);
+        luckPerms.getEventBus().subscribe(plugin, NodeMutateEvent.class, invalidator::onNodeMutate);
+    }
+
+    private void onUserDataRecalculate(final UserDataRecalculateEvent e) {
+        cache.invalidate(e.getUser().getUniqueId());
+    }
+
+    private void onUserTrack(final UserTrackEvent e) {
+        cache.invalidate(e.getUser().getUniqueId());
+    }
+
+    private void onNodeMutate(final NodeMutateEvent e) {
+        if (e.isUser()) {
+            cache.invalidate(((User) e.getTarget()).getUniqueId());
+        } else if (e.isGroup()) {
+            final String membership = "group." + ((Group) e.getTarget()).getName();
+            Services.scheduler().main(() -> {
+                for (final Player player : Bukkit.getOnlinePlayers()) {
+                    if (player.hasPermission(membership)) cache.invalidate(player.getUniqueId());
+                }
+            });
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onQuit(final PlayerQuitEvent e) {
+        cache.invalidate(e.getPlayer().getUniqueId());
+    }
+}
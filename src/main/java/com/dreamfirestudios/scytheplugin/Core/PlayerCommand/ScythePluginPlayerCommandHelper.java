@@ -24,14 +24,20 @@
 package com.dreamfirestudios.scytheplugin.Core.PlayerCommand;
 
 import com.dreamfirestudios.dreamcore.DreamChat.DreamMessageSettings;
+import com.dreamfirestudios.scytheplugin.Core.Config.ConfigAccess;
+import com.dreamfirestudios.scytheplugin.Core.KeyedRateLimiter;
+import com.dreamfirestudios.scytheplugin.Core.Services;
+import com.dreamfirestudios.scytheplugin.Enum.ScythePluginMessages;
 import com.dreamfirestudios.scytheplugin.Enum.ScythePluginPermissions;
+import com.dreamfirestudios.scytheplugin.Enum.ScythePluginRateLimitedAction;
 import com.dreamfirestudios.scytheplugin.PulseConfig.ScythePluginConfig;
+import com.dreamfirestudios.scytheplugin.PulseConfig.ScythePluginMessagesConfig;
 import com.dreamfirestudios.scytheplugin.PulseConfig.ScythePluginPermissionsConfigs;
-import com.dreamfirestudios.scytheplugin.ScythePlugin;
 import org.bukkit.entity.Player;
 
 import java.util.Objects;
-import java.util.function.Consumer;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Small utility for PlayerCommand workflows:
@@ -39,15 +45,123 @@ import java.util.function.Consumer;
  *   <li>Check if the system is enabled</li>
  *   <li>Check if a player has a permission</li>
  *   <li>Check both: system enabled AND player has permission</li>
+ *   <li>Optionally charge the player's per-action rate budget once the other checks pass</li>
  * </ul>
  *
- * All checks use the plugin’s async config accessors and invoke the provided callback
- * only when the check passes. If a check fails, the callback is not invoked.
+ * All checks read the published {@link ScythePluginConfig.Snapshot} and the plugin’s async config accessors, and
+ * invoke the provided callback only when the check passes. If a check fails, the callback is not invoked.
+ *
+ * The {@code require...} variants return a {@link CompletableFuture} of the outcome instead, completed on the
+ * thread of the last config lookup, so a command can chain its work and {@link #reply} without extra hops.
+ * The callback variants are built on them.
  */
 public final class ScythePluginPlayerCommandHelper {
 
     private ScythePluginPlayerCommandHelper() { }
 
+    /**
+     * Resolves the current config and completes with {@code systemEnabled}.
+     *
+     * @return future completed with whether the system is enabled
+     */
+    public static CompletableFuture<Boolean> requireSystemEnabled() {
+        return ScythePluginConfig.SnapshotAsync().thenApply(ScythePluginConfig.Snapshot::systemEnabled);
+    }
+
+    /**
+     * Completes with whether the player has the given permission at any known level.
+     * If {@code sendError} is true, the permission layer will send the enum’s error message.
+     *
+     * @param perm       permission key (non-null)
+     * @param player     player (non-null)
+     * @param sendError  whether to send the error message on failure
+     * @param settings   chat settings (non-null)
+     * @return future completed with {@code true} when the player is authorized
+     */
+    public static CompletableFuture<Boolean> requirePermission(final ScythePluginPermissions perm, final Player player, final boolean sendError, final DreamMessageSettings settings) {
+        Objects.requireNonNull(perm, "perm");
+        Objects.requireNonNull(player, "player");
+        Objects.requireNonNull(settings, "settings");
+        return ConfigAccess.enumConfig(ScythePluginPermissionsConfigs.class)
+                .thenApply(cfg -> cfg.DoesPlayerHavePermission(perm, player, sendError, settings));
+    }
+
+    /**
+     * Like {@link #requirePermission(ScythePluginPermissions, Player, boolean, DreamMessageSettings)}, then charges
+     * one permit of the player's {@code action} budget. When the budget is used up the player is told so.
+     *
+     * @param perm       permission key (non-null)
+     * @param action     rate-limited operation (non-null)
+     * @param player     player (non-null)
+     * @param sendError  whether to send the error message on permission failure
+     * @param settings   chat settings (non-null)
+     * @return future completed with {@code true} when the player is authorized and within budget
+     */
+    public static CompletableFuture<Boolean> requirePermission(final ScythePluginPermissions perm, final ScythePluginRateLimitedAction action, final Player player, final boolean sendError, final DreamMessageSettings settings) {
+        Objects.requireNonNull(action, "action");
+        return requirePermission(perm, player, sendError, settings).thenCompose(allowed -> !allowed
+                ? CompletableFuture.completedFuture(false)
+                : ScythePluginConfig.SnapshotAsync().thenApply(cfg -> acquireOrNotify(cfg, action, player, settings)));
+    }
+
+    /**
+     * Completes with {@code true} only if the system is enabled AND the player has the given permission.
+     * Order of evaluation matches legacy behavior: first enabled, then permission.
+     *
+     * @param perm       permission key (non-null)
+     * @param player     player (non-null)
+     * @param sendError  whether to send the error message on permission failure
+     * @param settings   chat settings (non-null)
+     * @return future completed with whether both checks pass
+     */
+    public static CompletableFuture<Boolean> requireSystemEnabledAndPermission(final ScythePluginPermissions perm, final Player player, final boolean sendError, final DreamMessageSettings settings) {
+        Objects.requireNonNull(perm, "perm");
+        Objects.requireNonNull(player, "player");
+        Objects.requireNonNull(settings, "settings");
+        return requireSystemEnabled().thenCompose(enabled -> !enabled
+                ? CompletableFuture.completedFuture(false)
+                : requirePermission(perm, player, sendError, settings));
+    }
+
+    /**
+     * Like {@link #requireSystemEnabledAndPermission(ScythePluginPermissions, Player, boolean, DreamMessageSettings)},
+     * then charges one permit of the player's {@code action} budget.
+     *
+     * @param perm       permission key (non-null)
+     * @param action     rate-limited operation (non-null)
+     * @param player     player (non-null)
+     * @param sendError  whether to send the error message on permission failure
+     * @param settings   chat settings (non-null)
+     * @return future completed with whether all checks pass
+     */
+    public static CompletableFuture<Boolean> requireSystemEnabledAndPermission(final ScythePluginPermissions perm, final ScythePluginRateLimitedAction action, final Player player, final boolean sendError, final DreamMessageSettings settings) {
+        Objects.requireNonNull(perm, "perm");
+        Objects.requireNonNull(action, "action");
+        Objects.requireNonNull(player, "player");
+        Objects.requireNonNull(settings, "settings");
+        return ScythePluginConfig.SnapshotAsync().thenCompose(cfg -> !cfg.systemEnabled()
+                ? CompletableFuture.completedFuture(false)
+                : requirePermission(perm, player, sendError, settings)
+                        .thenApply(allowed -> allowed && acquireOrNotify(cfg, action, player, settings)));
+    }
+
+    /**
+     * Sends {@code msg} to the player; delivery happens on the player's thread.
+     *
+     * @param player   recipient (non-null)
+     * @param msg      message key (non-null)
+     * @param settings chat settings (non-null)
+     * @param args     template arguments
+     * @return future completed once the message is handed to the player's thread
+     */
+    public static CompletableFuture<Void> reply(final Player player, final ScythePluginMessages msg, final DreamMessageSettings settings, final Object... args) {
+        Objects.requireNonNull(player, "player");
+        Objects.requireNonNull(msg, "msg");
+        Objects.requireNonNull(settings, "settings");
+        return ConfigAccess.enumConfig(ScythePluginMessagesConfig.class)
+                .thenAccept(messageConfig -> messageConfig.SendMessageToPlayer(msg, player, settings, args));
+    }
+
     /**
      * Resolves the current config and invokes {@code onEnabled} only when {@code systemEnabled == true}.
      *
@@ -55,10 +169,8 @@ public final class ScythePluginPlayerCommandHelper {
      */
     public static void checkSystemEnabled(final Runnable onEnabled) {
         Objects.requireNonNull(onEnabled, "onEnabled");
-        ScythePluginConfig.ReturnStaticAsync(ScythePlugin.GetScythePlugin(), ScythePluginConfig.class, cfg -> {
-                    if (cfg.systemEnabled) onEnabled.run();
-                }
-        );
+        requireSystemEnabled().thenAccept(ok -> { if (ok) onEnabled.run(); })
+                .exceptionally(t -> ConfigAccess.logFailure("System-enabled check", t));
     }
 
     /**
@@ -72,16 +184,9 @@ public final class ScythePluginPlayerCommandHelper {
      * @param onAllowed  callback when the player is authorized (non-null)
      */
     public static void checkPermission(final ScythePluginPermissions perm, final Player player, final boolean sendError, final DreamMessageSettings settings, final Runnable onAllowed) {
-        Objects.requireNonNull(perm, "perm");
-        Objects.requireNonNull(player, "player");
-        Objects.requireNonNull(settings, "settings");
         Objects.requireNonNull(onAllowed, "onAllowed");
-        ScythePluginPermissionsConfigs.ReturnStaticAsync(ScythePlugin.GetScythePlugin(), ScythePluginPermissionsConfigs.class, cfg -> {
-                    if (cfg.DoesPlayerHavePermission(perm, player, sendError, settings)) {
-                        onAllowed.run();
-                    }
-                }
-        );
+        requirePermission(perm, player, sendError, settings).thenAccept(ok -> { if (ok) onAllowed.run(); })
+                .exceptionally(t -> ConfigAccess.logFailure("Permission check " + perm, t));
     }
 
     /**
@@ -95,19 +200,55 @@ public final class ScythePluginPlayerCommandHelper {
      * @param onOk       callback when both checks pass (non-null)
      */
     public static void checkSystemEnabledAndPermission(final ScythePluginPermissions perm, final Player player, final boolean sendError, final DreamMessageSettings settings, final Runnable onOk) {
-        Objects.requireNonNull(perm, "perm");
-        Objects.requireNonNull(player, "player");
-        Objects.requireNonNull(settings, "settings");
         Objects.requireNonNull(onOk, "onOk");
-        ScythePluginConfig.ReturnStaticAsync(ScythePlugin.GetScythePlugin(), ScythePluginConfig.class, cfg -> {
-                    if (!cfg.systemEnabled) return;
-                    ScythePluginPermissionsConfigs.ReturnStaticAsync(ScythePlugin.GetScythePlugin(), ScythePluginPermissionsConfigs.class, permsCfg -> {
-                                if (permsCfg.DoesPlayerHavePermission(perm, player, sendError, settings)) {
-                                    onOk.run();
-                                }
-                            }
-                    );
-                }
-        );
+        requireSystemEnabledAndPermission(perm, player, sendError, settings).thenAccept(ok -> { if (ok) onOk.run(); })
+                .exceptionally(t -> ConfigAccess.logFailure("Permission check " + perm, t));
+    }
+
+    /**
+     * Like {@link #checkPermission(ScythePluginPermissions, Player, boolean, DreamMessageSettings, Runnable)},
+     * then charges one permit of the player's {@code action} budget. When the budget is used up the player
+     * is told so and {@code onAllowed} is not invoked.
+     *
+     * @param perm       permission key (non-null)
+     * @param action     rate-limited operation (non-null)
+     * @param player     player (non-null)
+     * @param sendError  whether to send the error message on permission failure
+     * @param settings   chat settings (non-null)
+     * @param onAllowed  callback when the player is authorized and within budget (non-null)
+     */
+    public static void checkPermission(final ScythePluginPermissions perm, final ScythePluginRateLimitedAction action, final Player player, final boolean sendError, final DreamMessageSettings settings, final Runnable onAllowed) {
+        Objects.requireNonNull(onAllowed, "onAllowed");
+        requirePermission(perm, action, player, sendError, settings).thenAccept(ok -> { if (ok) onAllowed.run(); })
+                .exceptionally(t -> ConfigAccess.logFailure("Permission check " + perm, t));
+    }
+
+    /**
+     * Like {@link #checkSystemEnabledAndPermission(ScythePluginPermissions, Player, boolean, DreamMessageSettings, Runnable)},
+     * then charges one permit of the player's {@code action} budget.
+     *
+     * @param perm       permission key (non-null)
+     * @param action     rate-limited operation (non-null)
+     * @param player     player (non-null)
+     * @param sendError  whether to send the error message on permission failure
+     * @param settings   chat settings (non-null)
+     * @param onOk       callback when all checks pass (non-null)
+     */
+    public static void checkSystemEnabledAndPermission(final ScythePluginPermissions perm, final ScythePluginRateLimitedAction action, final Player player, final boolean sendError, final DreamMessageSettings settings, final Runnable onOk) {
+        Objects.requireNonNull(onOk, "onOk");
+        requireSystemEnabledAndPermission(perm, action, player, sendError, settings).thenAccept(ok -> { if (ok) onOk.run(); })
+                .exceptionally(t -> ConfigAccess.logFailure("Permission check " + perm, t));
+    }
+
+    private static boolean acquireOrNotify(final ScythePluginConfig.Snapshot cfg, final ScythePluginRateLimitedAction action, final Player player, final DreamMessageSettings settings) {
+        if (playerLimiter(cfg, action).tryAcquire(player.getUniqueId())) return true;
+        reply(player, ScythePluginMessages.PlayerRateLimited, settings)
+                .exceptionally(t -> ConfigAccess.logFailure("Rate-limit notice", t));
+        return false;
+    }
+
+    /** Per-player limiter for {@code action}, sized from {@code cfg}; a reload that changes the budget yields a fresh one. */
+    private static KeyedRateLimiter<UUID> playerLimiter(final ScythePluginConfig.Snapshot cfg, final ScythePluginRateLimitedAction action) {
+        return Services.keyedRateLimiter(action.GetLimiterName(), cfg.PlayerPermits(action), cfg.PlayerRateLimitWindow());
     }
-}
\ No newline at end of file
+}
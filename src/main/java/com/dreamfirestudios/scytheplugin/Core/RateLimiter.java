@@ -25,45 +25,80 @@ package com.dreamfirestudios.scytheplugin.Core;
 
 import java.time.Duration;
 import java.util.Objects;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.DoubleSupplier;
 
 /**
- * Non-blocking, thread-safe token bucket rate limiter.
+ * Non-blocking, thread-safe rate limiter with token-bucket semantics.
  *
  * <p>Supports two creation styles:</p>
  * <ul>
  *   <li>{@link #of(int, Duration)} — X permits per time window (e.g., 2 per second)</li>
  *   <li>{@link #perSecond(double, int)} — permits/second with a burst cap</li>
+ *   <li>{@link #adaptive(int, Duration, DoubleSupplier)} — X per window, scaled by a live load factor
+ *   (see {@link ServerLoadMonitor}); under load both the refill rate and the burst shrink</li>
  * </ul>
  *
  * <p>Use {@link #tryAcquire()} or {@link #tryAcquire(int)} to attempt consumption.
  * Calls never block; they return {@code true} on success or {@code false} if the
  * current bucket does not have enough tokens.</p>
  *
- * <p>Implementation notes: uses a simple synchronized refill-and-consume with
- * double precision for fractional accrual. This is plenty fast for plugin usage,
- * avoids busy-waiting, and keeps correctness straightforward.</p>
+ * <p>To pace work instead of dropping it, {@link #acquireAsync(int)} and
+ * {@link #acquireAsyncMain(int)} reserve permits up front and return a future that the
+ * {@link Scheduler} completes on the tick they become available. Reservations are bounded by a
+ * maximum wait, and a cancelled future returns its permits.</p>
+ *
+ * <p>Implementation notes: generic cell rate algorithm (GCRA, see {@link Gcra}). The whole state is one
+ * theoretical arrival time (TAT) in an {@link AtomicLong}; a grant advances it by
+ * {@code permits × interval} with a CAS, a denial only reads it. No locks are taken, so
+ * threads sharing a limiter never park on each other. A limiter starts full, and
+ * {@code burst} is the most permits available after it has been idle, exactly as with a
+ * bucket of capacity {@code burst}. A reservation is a grant whose TAT is allowed past the
+ * tolerance; the overshoot is exactly how long the caller has to wait. Costs are rounded up to whole
+ * nanoseconds and are at least 1 ns, so rounding never grants free permits; rates above one permit per
+ * nanosecond are capped there.</p>
  */
 public final class RateLimiter {
 
-    /** Tokens added per nanosecond. */
-    private final double tokensPerNano;
+    /** Longest wait {@link #acquireAsync(int)} and {@link #acquireAsyncMain(int)} will reserve. */
+    public static final Duration DEFAULT_MAX_WAIT = Duration.ofSeconds(30);
+
+    /** Length of one server tick at 20 TPS. */
+    private static final long NANOS_PER_TICK = 50_000_000L;
+
+    /** Nanoseconds one permit pushes the TAT forward (1 / rate). */
+    private final double intervalNanos;
 
     /** Maximum stored tokens (burst). */
     private final double burst;
 
-    /** Currently stored tokens. Guarded by 'this'. */
-    private double stored;
+    /**
+     * How far the TAT may run ahead of now: {@code burst × nominal interval}. Fixed in time, so when an adaptive
+     * limiter stretches its interval the burst shrinks with it (but never below one request).
+     */
+    private final long toleranceNanos;
+
+    /** Theoretical arrival time in {@link System#nanoTime()} units. */
+    private final AtomicLong tat;
 
-    /** Last refill time in nanos. Guarded by 'this'. */
-    private long lastNanos;
+    /** Share of the nominal rate currently allowed, or {@code null} for a fixed rate. */
+    private final DoubleSupplier loadFactor;
 
     private RateLimiter(final double tokensPerNano, final double burst, final long nowNanos) {
+        this(tokensPerNano, burst, nowNanos, null);
+    }
+
+    private RateLimiter(final double tokensPerNano, final double burst, final long nowNanos, final DoubleSupplier loadFactor) {
         if (tokensPerNano <= 0.0) throw new IllegalArgumentException("tokensPerNano must be > 0");
         if (burst <= 0.0) throw new IllegalArgumentException("burst must be > 0");
-        this.tokensPerNano = tokensPerNano;
+        this.intervalNanos = 1.0 / tokensPerNano;
         this.burst = burst;
-        this.stored = burst;      // start full
-        this.lastNanos = nowNanos; // initialize clock
+        this.toleranceNanos = saturatedNanos(burst * intervalNanos);
+        this.tat = new AtomicLong(nowNanos); // start full
+        this.loadFactor = loadFactor;
     }
 
     /**
@@ -80,6 +115,7 @@ public final class RateLimiter {
 
     /**
      * Create a limiter that accrues {@code permitsPerSecond} with a maximum burst of {@code burst}.
+     * Rates above {@code 1e9} per second behave as {@code 1e9} per second.
      */
     public static RateLimiter perSecond(final double permitsPerSecond, final int burst) {
         if (permitsPerSecond <= 0.0) throw new IllegalArgumentException("permitsPerSecond must be > 0");
@@ -88,6 +124,20 @@ public final class RateLimiter {
         return new RateLimiter(perNano, burst, System.nanoTime());
     }
 
+    /**
+     * Create a limiter that allows {@code permits} per {@code window} while {@code loadFactor} is 1.0,
+     * and proportionally fewer as it drops (clamped to {@code [ServerLoadMonitor.MIN_FACTOR, 1]}).
+     * The factor is read on every acquire, so the limiter tracks load changes immediately.
+     */
+    public static RateLimiter adaptive(final int permits, final Duration window, final DoubleSupplier loadFactor) {
+        Objects.requireNonNull(window, "window");
+        Objects.requireNonNull(loadFactor, "loadFactor");
+        if (permits <= 0) throw new IllegalArgumentException("permits must be > 0");
+        final long nanos = window.toNanos();
+        if (nanos <= 0L) throw new IllegalArgumentException("window must be > 0");
+        return new RateLimiter(permits / (double) nanos, permits, System.nanoTime(), loadFactor);
+    }
+
     /** Try to acquire a single permit. Non-blocking. */
     public boolean tryAcquire() {
         return tryAcquire(1);
@@ -98,37 +148,115 @@ public final class RateLimiter {
      *
      * @return {@code true} if acquired; {@code false} otherwise.
      */
-    public synchronized boolean tryAcquire(final int permits) {
+    public boolean tryAcquire(final int permits) {
+        if (permits <= 0) throw new IllegalArgumentException("permits must be > 0");
+        if (permits > burst) return false;
+        final double interval = interval();
+        final long cost = Gcra.costNanos(permits * interval);
+        return Gcra.tryAcquire(tat, cost, Math.max(toleranceNanos, cost));
+    }
+
+    /**
+     * Reserve {@code permits} and complete once they are available, on an async thread.
+     * Completes immediately (on the calling thread) when they are available now; otherwise
+     * via {@link Scheduler#asyncLater} after the exact wait, rounded up to whole ticks.
+     * The reservation counts against the limiter immediately, so queued callers are served in order.
+     * Waits are capped at {@link #DEFAULT_MAX_WAIT}; see {@link #acquireAsync(int, Duration)}.
+     *
+     * @throws IllegalArgumentException if {@code permits} is not in {@code 1..burst}
+     */
+    public CompletableFuture<Void> acquireAsync(final int permits) {
+        return acquireAsync(permits, DEFAULT_MAX_WAIT);
+    }
+
+    /**
+     * Like {@link #acquireAsync(int)}, but fails fast instead of queueing past {@code maxWait}.
+     * If the permits would not be available within {@code maxWait}, nothing is reserved and the
+     * future fails with {@link RejectedExecutionException}. Cancelling the returned future before
+     * it completes gives the reservation back, so abandoned waiters do not starve later callers.
+     *
+     * @throws IllegalArgumentException if {@code permits} is not in {@code 1..burst}
+     */
+    public CompletableFuture<Void> acquireAsync(final int permits, final Duration maxWait) {
+        return reserveAndSchedule(permits, maxWait, false);
+    }
+
+    /**
+     * Like {@link #acquireAsync(int)}, but the future always completes on the main thread
+     * (via {@link Scheduler#main} or {@link Scheduler#mainLater}).
+     *
+     * @throws IllegalArgumentException if {@code permits} is not in {@code 1..burst}
+     */
+    public CompletableFuture<Void> acquireAsyncMain(final int permits) {
+        return acquireAsyncMain(permits, DEFAULT_MAX_WAIT);
+    }
+
+    /**
+     * Like {@link #acquireAsync(int, Duration)}, but the future always completes on the main thread.
+     *
+     * @throws IllegalArgumentException if {@code permits} is not in {@code 1..burst}
+     */
+    public CompletableFuture<Void> acquireAsyncMain(final int permits, final Duration maxWait) {
+        return reserveAndSchedule(permits, maxWait, true);
+    }
+
+    private CompletableFuture<Void> reserveAndSchedule(final int permits, final Duration maxWait, final boolean mainThread) {
+        Objects.requireNonNull(maxWait, "maxWait");
         if (permits <= 0) throw new IllegalArgumentException("permits must be > 0");
-        refillLocked(System.nanoTime());
-        if (stored >= permits) {
-            stored -= permits;
-            return true;
+        if (permits > burst) throw new IllegalArgumentException("permits must be <= burst");
+        final long cost = Gcra.costNanos(permits * interval());
+        final long waitNanos = Gcra.reserve(tat, cost, Math.max(toleranceNanos, cost), Math.max(0L, maxWait.toNanos()));
+        if (waitNanos < 0L) {
+            return CompletableFuture.failedFuture(
+                    new RejectedExecutionException("permits not available within " + maxWait));
         }
-        return false;
+        final CompletableFuture<Void> future = new CompletableFuture<>();
+        future.whenComplete((ignored, failure) -> {
+            if (failure instanceof CancellationException) Gcra.refund(tat, cost);
+        });
+        schedule(future, waitNanos, mainThread);
+        return future;
     }
 
-    /** Current tokens (approximate, for diagnostics/metrics). */
-    public synchronized double availablePermits() {
-        refillLocked(System.nanoTime());
-        return stored;
-    }
-
-    /** Next refill based on elapsed time since last tick. */
-    private void refillLocked(final long now) {
-        final long elapsed = now - lastNanos;
-        if (elapsed <= 0) return;
-        final double add = elapsed * tokensPerNano;
-        if (add > 0.0) {
-            stored = Math.min(burst, stored + add);
-            lastNanos = now;
+    private static void schedule(final CompletableFuture<Void> future, final long waitNanos, final boolean mainThread) {
+        final Runnable complete = () -> future.complete(null);
+        if (waitNanos == 0L && !mainThread) {
+            complete.run();
+            return;
+        }
+        final Scheduler scheduler = Services.scheduler();
+        if (waitNanos == 0L) {
+            scheduler.main(complete);
+        } else {
+            final long ticks = (waitNanos + NANOS_PER_TICK - 1L) / NANOS_PER_TICK;
+            if (mainThread) scheduler.mainLater(complete, ticks);
+            else scheduler.asyncLater(complete, ticks);
         }
     }
 
+    /** Current tokens (approximate, for diagnostics/metrics). */
+    public double availablePermits() {
+        final double interval = interval();
+        final long now = System.nanoTime();
+        final long ahead = Gcra.ahead(tat.get(), now);
+        return Math.max(0.0, Math.min(burst, (toleranceNanos - ahead) / interval));
+    }
+
+    /** Nanoseconds per permit right now: the nominal interval stretched by the load factor. */
+    private double interval() {
+        if (loadFactor == null) return intervalNanos;
+        final double factor = loadFactor.getAsDouble();
+        return intervalNanos / (factor >= 1.0 ? 1.0 : Math.max(ServerLoadMonitor.MIN_FACTOR, factor));
+    }
+
+    private static long saturatedNanos(final double nanos) {
+        return nanos >= Gcra.MAX_NANOS ? Gcra.MAX_NANOS : Math.round(nanos);
+    }
+
     @Override
-    public synchronized String toString() {
-        return "RateLimiter{tokensPerNano=" + tokensPerNano +
+    public String toString() {
+        return "RateLimiter{tokensPerNano=" + (1.0 / interval()) +
                 ", burst=" + burst +
-                ", stored=" + stored + '}';
+                ", stored=" + availablePermits() + '}';
     }
-}
\ No newline at end of file
+}
@@ -23,10 +23,26 @@
  */
 package com.dreamfirestudios.scytheplugin.Core;
 
-import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.entity.Entity;
 import org.bukkit.plugin.Plugin;
 
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Iterator;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 /**
  * <summary>
@@ -37,11 +53,42 @@ import java.util.Objects;
  *   <li>Provides safe scheduling on the main thread or asynchronously.</li>
  *   <li>Supports delayed and repeating tasks.</li>
  *   <li>Ensures delays and periods are at least 1 tick.</li>
+ *   <li>Runs on Paper/Spigot and Folia; the backend is chosen once via {@link VersionChecks#isFolia()}. On Folia
+ *   "main" means the global region, and {@link #forEntity}/{@link #atLocation} target the owning region. Anything
+ *   that touches an entity, a player or a block must go through those rather than {@link #main}.</li>
+ *   <li>By default {@link #async} work runs one virtual thread per task, with at most
+ *   {@value #DEFAULT_MAX_CONCURRENT_ASYNC} running at once; the rest park cheaply until a slot frees.
+ *   Blocking I/O therefore never grows the OS thread count. Delays stay tick-based: {@link #asyncLater} waits
+ *   on the platform scheduler, then hands off to a virtual thread.</li>
+ *   <li>Periodic work ({@link #repeatMainJob}, {@link #repeatAsyncJob}, {@link #every}, {@link #everyAsync}) shares
+ *   one platform repeating task through a {@link TickDispatcher}; jobs get cancellable handles and spread phases.
+ *   The older {@link #repeatMain}/{@link #repeatAsync} still return platform task IDs and are deprecated.</li>
+ *   <li>Once {@link #start()} has run, off-thread {@link #main} calls go through one {@link MainThreadQueue},
+ *   drained every tick by a dispatcher job within a time budget instead of scheduling a platform task each.</li>
+ *   <li>Long main-thread work can run as a {@link CooperativeJob} ({@link #cooperative}, {@link #forEachCooperatively}),
+ *   which does a time slice per tick instead of finishing in one lambda.</li>
+ *   <li>{@link #supplyAsync}, {@link #thenMain} and {@link #thenForEntity} bridge to {@link CompletableFuture}
+ *   pipelines; the hop helpers run inline when already on the right thread.</li>
+ *   <li>Call {@link #shutdown(long)} when the plugin disables.</li>
  * </ul>
  * </remarks>
  */
 public final class Scheduler {
-    private final Plugin plugin;
+    /** Default cap on async tasks running at the same time. */
+    public static final int DEFAULT_MAX_CONCURRENT_ASYNC = 256;
+
+    /** Default main-thread time a cooperative job may use per tick. */
+    public static final Duration DEFAULT_COOPERATIVE_SLICE = Duration.ofMillis(1);
+
+    private final SchedulerBackend backend;
+    private final Logger logger;
+    private final ExecutorService virtualThreads;
+    private final Semaphore asyncSlots;
+    private final MainThreadQueue mainQueue;
+    private final TickDispatcher dispatcher;
+    private volatile boolean mainQueueRunning;
+    private volatile boolean shutDown;
+    private int dispatcherTaskId = -1;
 
     /**
      * <summary>
@@ -50,19 +97,79 @@ public final class Scheduler {
      * <param name="plugin">The plugin responsible for scheduling tasks.</param>
      */
     public Scheduler(final Plugin plugin) {
-        this.plugin = Objects.requireNonNull(plugin, "plugin");
+        this(plugin, true, DEFAULT_MAX_CONCURRENT_ASYNC);
+    }
+
+    /**
+     * <summary>
+     * Creates a new scheduler bound to the given plugin.
+     * </summary>
+     * <param name="plugin">The plugin responsible for scheduling tasks.</param>
+     * <param name="virtualThreads">Run async tasks on virtual threads instead of the platform async pool.</param>
+     * <param name="maxConcurrentAsync">Cap on virtual-thread tasks running at once (ignored without virtual threads).</param>
+     */
+    public Scheduler(final Plugin plugin, final boolean virtualThreads, final int maxConcurrentAsync) {
+        Objects.requireNonNull(plugin, "plugin");
+        if (maxConcurrentAsync <= 0) throw new IllegalArgumentException("maxConcurrentAsync must be > 0");
+        this.backend = VersionChecks.isFolia() ? new FoliaSchedulerBackend(plugin) : new BukkitSchedulerBackend(plugin);
+        this.logger = plugin.getLogger();
+        this.virtualThreads = virtualThreads
+                ? Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(plugin.getName() + "-async-", 0L).factory())
+                : null;
+        this.asyncSlots = new Semaphore(maxConcurrentAsync);
+        this.mainQueue = new MainThreadQueue(logger);
+        this.dispatcher = new TickDispatcher(this::async, logger);
     }
 
     /**
      * <summary>
      * Runs a task immediately on the main thread.
      * </summary>
+     * <remarks>After {@link #shutdown(long)} off-thread tasks are dropped with a warning.</remarks>
      * <param name="task">The task to run.</param>
      */
     public void main(final Runnable task) {
         Objects.requireNonNull(task, "task");
-        if (Bukkit.isPrimaryThread()) task.run();
-        else Bukkit.getScheduler().runTask(plugin, task);
+        if (backend.isGlobalThread()) task.run();
+        else if (mainQueueRunning) mainQueue.submit(task);
+        else if (!droppedAfterShutdown("Main-thread task")) backend.runGlobal(task);
+    }
+
+    /**
+     * <summary>
+     * Starts the tick dispatcher and routes off-thread {@link #main} calls through the main-thread queue.
+     * </summary>
+     * <remarks>Idempotent. Until called, {@link #main} schedules a platform task per call.</remarks>
+     */
+    public void start() {
+        startDispatcher();
+        synchronized (this) {
+            if (mainQueueRunning || shutDown) return;
+            dispatcher.schedule(mainQueue::drain, 1L, 1L, false);
+            mainQueueRunning = true;
+        }
+    }
+
+    /** Registers the dispatcher's platform task once; after shutdown, jobs are accepted but never run. */
+    private synchronized void startDispatcher() {
+        if (dispatcherTaskId != -1 || droppedAfterShutdown("Periodic job")) return;
+        dispatcherTaskId = backend.repeatGlobal(dispatcher::tick, 1L, 1L);
+    }
+
+    /** Logs and returns true once {@link #shutdown(long)} has run; the platform scheduler would reject the task. */
+    private boolean droppedAfterShutdown(final String kind) {
+        if (!shutDown) return false;
+        logger.log(Level.WARNING, "{0} submitted after scheduler shutdown; dropped", kind);
+        return true;
+    }
+
+    /**
+     * <summary>
+     * The queue behind {@link #main}, for depth/throughput metrics and budget changes.
+     * </summary>
+     */
+    public MainThreadQueue mainQueue() {
+        return mainQueue;
     }
 
     /**
@@ -74,19 +181,39 @@ public final class Scheduler {
      */
     public void mainLater(final Runnable task, final long delayTicks) {
         Objects.requireNonNull(task, "task");
+        if (droppedAfterShutdown("Delayed main-thread task")) return;
         final long delay = Math.max(1L, delayTicks);
-        Bukkit.getScheduler().runTaskLater(plugin, task, delay);
+        backend.runGlobalLater(task, delay);
     }
 
     /**
      * <summary>
      * Runs a task asynchronously.
      * </summary>
+     * <remarks>After {@link #shutdown(long)} virtual-thread tasks are dropped with a warning.</remarks>
      * <param name="task">The task to run.</param>
      */
     public void async(final Runnable task) {
         Objects.requireNonNull(task, "task");
-        Bukkit.getScheduler().runTaskAsynchronously(plugin, task);
+        if (!tryAsync(task)) droppedAfterShutdown("Async task");
+    }
+
+    /**
+     * Hands {@code task} to the virtual-thread executor or the platform pool. Returns false after shutdown; the
+     * platform scheduler is not a fallback then, as it rejects tasks from a disabled plugin.
+     */
+    boolean tryAsync(final Runnable task) {
+        if (shutDown) return false;
+        if (virtualThreads == null) {
+            backend.runAsync(task);
+            return true;
+        }
+        try {
+            virtualThreads.execute(() -> runCapped(task));
+            return true;
+        } catch (RejectedExecutionException shutDown) {
+            return false;
+        }
     }
 
     /**
@@ -98,39 +225,388 @@ public final class Scheduler {
      */
     public void asyncLater(final Runnable task, final long delayTicks) {
         Objects.requireNonNull(task, "task");
+        if (droppedAfterShutdown("Delayed async task")) return;
         final long delay = Math.max(1L, delayTicks);
-        Bukkit.getScheduler().runTaskLaterAsynchronously(plugin, task, delay);
+        backend.runAsyncLater(virtualThreads == null ? task : () -> async(task), delay);
     }
 
     /**
      * <summary>
-     * Runs a task repeatedly on the main thread.
+     * Computes a value asynchronously.
+     * </summary>
+     * <param name="supplier">Computation to run off the main thread.</param>
+     * <returns>Future completed with the value, or exceptionally if the supplier throws or after shutdown.</returns>
+     */
+    public <T> CompletableFuture<T> supplyAsync(final Supplier<T> supplier) {
+        Objects.requireNonNull(supplier, "supplier");
+        final CompletableFuture<T> future = new CompletableFuture<>();
+        final boolean accepted = tryAsync(() -> {
+            try {
+                future.complete(supplier.get());
+            } catch (Throwable t) {
+                future.completeExceptionally(t);
+            }
+        });
+        if (!accepted) future.completeExceptionally(new RejectedExecutionException("scheduler is shut down"));
+        return future;
+    }
+
+    /**
+     * <summary>
+     * Mirrors {@code stage} onto the main thread.
+     * </summary>
+     * <remarks>If {@code stage} completes on the main thread already, the result is passed through without a hop.</remarks>
+     * <param name="stage">Stage to follow.</param>
+     * <returns>Future whose dependent stages run on the main thread.</returns>
+     */
+    public <T> CompletableFuture<T> thenMain(final CompletionStage<T> stage) {
+        Objects.requireNonNull(stage, "stage");
+        final CompletableFuture<T> future = new CompletableFuture<>();
+        stage.whenComplete((value, failure) -> main(() -> relay(future, value, failure)));
+        return future;
+    }
+
+    /**
+     * <summary>
+     * Mirrors {@code stage} onto the thread that owns {@code entity} (the main thread on Paper).
+     * </summary>
+     * <remarks>If {@code stage} completes on the owning thread already, the result is passed through without a hop.</remarks>
+     * <param name="entity">Entity whose thread dependent stages should run on.</param>
+     * <param name="stage">Stage to follow.</param>
+     * <returns>Future whose dependent stages run on the entity's thread.</returns>
+     */
+    public <T> CompletableFuture<T> thenForEntity(final Entity entity, final CompletionStage<T> stage) {
+        Objects.requireNonNull(entity, "entity");
+        Objects.requireNonNull(stage, "stage");
+        final CompletableFuture<T> future = new CompletableFuture<>();
+        stage.whenComplete((value, failure) -> forEntity(entity, () -> relay(future, value, failure)));
+        return future;
+    }
+
+    /**
+     * <summary>
+     * Executor view of {@link #main}, for {@code *Async(fn, executor)} stages.
+     * </summary>
+     */
+    public Executor mainExecutor() {
+        return this::main;
+    }
+
+    private static <T> void relay(final CompletableFuture<T> future, final T value, final Throwable failure) {
+        if (failure == null) future.complete(value);
+        else future.completeExceptionally(failure);
+    }
+
+    /**
+     * <summary>
+     * Runs a task repeatedly on the main thread as its own platform task.
      * </summary>
      * <param name="task">The task to run.</param>
      * <param name="delayTicks">Initial delay in ticks before first run (minimum 1).</param>
      * <param name="periodTicks">Period in ticks between runs (minimum 1).</param>
-     * <returns>The Bukkit task ID for cancellation.</returns>
+     * <returns>Task ID for {@link #cancel(int)}; on Paper also a Bukkit task ID.</returns>
+     * @deprecated Schedules a platform task per call; use {@link #repeatMainJob}, which returns a
+     * {@link TickDispatcher.Job} handle instead of a task ID.
      */
+    @Deprecated
     public int repeatMain(final Runnable task, final long delayTicks, final long periodTicks) {
         Objects.requireNonNull(task, "task");
+        if (droppedAfterShutdown("Repeating main-thread task")) return -1;
         final long delay = Math.max(1L, delayTicks);
         final long period = Math.max(1L, periodTicks);
-        return Bukkit.getScheduler().runTaskTimer(plugin, task, delay, period).getTaskId();
+        return backend.repeatGlobal(task, delay, period);
     }
 
     /**
      * <summary>
-     * Runs a task repeatedly asynchronously.
+     * Runs a task repeatedly asynchronously as its own platform task.
      * </summary>
      * <param name="task">The task to run.</param>
      * <param name="delayTicks">Initial delay in ticks before first run (minimum 1).</param>
      * <param name="periodTicks">Period in ticks between runs (minimum 1).</param>
-     * <returns>The Bukkit task ID for cancellation.</returns>
+     * <returns>Task ID for {@link #cancel(int)}; on Paper also a Bukkit task ID.</returns>
+     * @deprecated Schedules a platform task per call; use {@link #repeatAsyncJob}, which returns a
+     * {@link TickDispatcher.Job} handle instead of a task ID.
      */
+    @Deprecated
     public int repeatAsync(final Runnable task, final long delayTicks, final long periodTicks) {
+        Objects.requireNonNull(task, "task");
+        if (droppedAfterShutdown("Repeating async task")) return -1;
+        final long delay = Math.max(1L, delayTicks);
+        final long period = Math.max(1L, periodTicks);
+        return backend.repeatAsync(task, delay, period);
+    }
+
+    /**
+     * <summary>
+     * Cancels a task started by {@link #repeatMain} or {@link #repeatAsync}.
+     * </summary>
+     * <remarks>Needed on Folia, whose task IDs are synthetic and unknown to {@code BukkitScheduler#cancelTask}.</remarks>
+     * <param name="taskId">ID returned by the repeat call; -1 is ignored.</param>
+     */
+    public void cancel(final int taskId) {
+        if (taskId != -1) backend.cancel(taskId);
+    }
+
+    /**
+     * <summary>
+     * Runs a task repeatedly on the main thread.
+     * </summary>
+     * <remarks>
+     * Runs as a {@link TickDispatcher} job; prefer {@link #every} when the exact phase does not matter.
+     * Returns a handle rather than a platform task ID, so it cannot be passed to {@code BukkitScheduler#cancelTask}.
+     * </remarks>
+     * <param name="task">The task to run.</param>
+     * <param name="delayTicks">Initial delay in ticks before first run (minimum 1).</param>
+     * <param name="periodTicks">Period in ticks between runs (minimum 1).</param>
+     * <returns>Handle for cancellation.</returns>
+     */
+    public TickDispatcher.Job repeatMainJob(final Runnable task, final long delayTicks, final long periodTicks) {
+        Objects.requireNonNull(task, "task");
+        final long delay = Math.max(1L, delayTicks);
+        final long period = Math.max(1L, periodTicks);
+        startDispatcher();
+        return dispatcher.schedule(task, delay, period, false);
+    }
+
+    /**
+     * <summary>
+     * Runs a task repeatedly asynchronously.
+     * </summary>
+     * <remarks>
+     * Runs as a {@link TickDispatcher} job; a firing is skipped while the previous run is still in progress.
+     * Returns a handle rather than a platform task ID, like {@link #repeatMainJob}.
+     * </remarks>
+     * <param name="task">The task to run.</param>
+     * <param name="delayTicks">Initial delay in ticks before first run (minimum 1).</param>
+     * <param name="periodTicks">Period in ticks between runs (minimum 1).</param>
+     * <returns>Handle for cancellation.</returns>
+     */
+    public TickDispatcher.Job repeatAsyncJob(final Runnable task, final long delayTicks, final long periodTicks) {
         Objects.requireNonNull(task, "task");
         final long delay = Math.max(1L, delayTicks);
         final long period = Math.max(1L, periodTicks);
-        return Bukkit.getScheduler().runTaskTimerAsynchronously(plugin, task, delay, period).getTaskId();
+        startDispatcher();
+        return dispatcher.schedule(task, delay, period, true);
+    }
+
+    /**
+     * <summary>
+     * Runs a task on the main thread every {@code periodTicks}, phase-shifted away from other jobs with the same period.
+     * </summary>
+     * <param name="periodTicks">Period in ticks between runs (minimum 1).</param>
+     * <param name="task">The task to run.</param>
+     * <returns>Handle for cancellation.</returns>
+     */
+    public TickDispatcher.Job every(final long periodTicks, final Runnable task) {
+        Objects.requireNonNull(task, "task");
+        startDispatcher();
+        return dispatcher.every(Math.max(1L, periodTicks), task, false);
+    }
+
+    /**
+     * <summary>
+     * Runs a task asynchronously every {@code periodTicks}, phase-shifted away from other jobs with the same period.
+     * </summary>
+     * <remarks>A firing is skipped while the previous run is still in progress.</remarks>
+     * <param name="periodTicks">Period in ticks between runs (minimum 1).</param>
+     * <param name="task">The task to run.</param>
+     * <returns>Handle for cancellation.</returns>
+     */
+    public TickDispatcher.Job everyAsync(final long periodTicks, final Runnable task) {
+        Objects.requireNonNull(task, "task");
+        startDispatcher();
+        return dispatcher.every(Math.max(1L, periodTicks), task, true);
+    }
+
+    /**
+     * <summary>
+     * The dispatcher running every periodic job, for job counts.
+     * </summary>
+     */
+    public TickDispatcher dispatcher() {
+        return dispatcher;
+    }
+
+    /**
+     * <summary>
+     * Runs a step function on the main thread, up to {@link #DEFAULT_COOPERATIVE_SLICE} per tick, until it finishes.
+     * </summary>
+     * <param name="step">Does one unit of work and reports whether more remains.</param>
+     * <returns>Handle for progress and cancellation.</returns>
+     */
+    public CooperativeJob cooperative(final CooperativeJob.Step step) {
+        return cooperative(step, -1L, DEFAULT_COOPERATIVE_SLICE);
+    }
+
+    /**
+     * <summary>
+     * Runs a step function on the main thread, up to {@code slice} per tick, until it finishes.
+     * </summary>
+     * <remarks>The first slice runs on the next tick; at least one step runs per tick.</remarks>
+     * <param name="step">Does one unit of work and reports whether more remains.</param>
+     * <param name="totalSteps">Expected number of steps for {@link CooperativeJob#progress()}, or -1 if unknown.</param>
+     * <param name="slice">Main-thread time the job may use per tick.</param>
+     * <returns>Handle for progress and cancellation.</returns>
+     */
+    public CooperativeJob cooperative(final CooperativeJob.Step step, final long totalSteps, final Duration slice) {
+        Objects.requireNonNull(step, "step");
+        Objects.requireNonNull(slice, "slice");
+        final CooperativeJob job = new CooperativeJob(step, Math.max(-1L, totalSteps), Math.max(1L, slice.toNanos()),
+                backend::isGlobalThread);
+        startDispatcher();
+        job.attach(dispatcher.schedule(job::slice, 1L, 1L, false));
+        return job;
+    }
+
+    /**
+     * <summary>
+     * Applies {@code action} to each element on the main thread, spread over as many ticks as needed.
+     * </summary>
+     * <remarks>
+     * Iteration happens across ticks, so pass a snapshot (e.g. {@code List.copyOf}) of collections that may change.
+     * Progress is reported when {@code elements} is a {@link Collection}.
+     * </remarks>
+     * <param name="elements">Elements to visit.</param>
+     * <param name="action">Work for one element.</param>
+     * <returns>Handle for progress and cancellation.</returns>
+     */
+    public <T> CooperativeJob forEachCooperatively(final Iterable<T> elements, final Consumer<? super T> action) {
+        Objects.requireNonNull(elements, "elements");
+        Objects.requireNonNull(action, "action");
+        final long total = elements instanceof Collection<?> c ? c.size() : -1L;
+        final Iterator<T> iterator = elements.iterator();
+        if (!iterator.hasNext()) {
+            final CooperativeJob empty = new CooperativeJob(() -> false, 0L, 0L, backend::isGlobalThread);
+            empty.future().complete(null);
+            return empty;
+        }
+        return cooperative(CooperativeJob.forEach(iterator, action), total, DEFAULT_COOPERATIVE_SLICE);
+    }
+
+    /**
+     * <summary>
+     * Number of additional async tasks that could start right now without waiting for a slot.
+     * </summary>
+     */
+    public int availableAsyncSlots() {
+        return asyncSlots.availablePermits();
+    }
+
+    /**
+     * <summary>
+     * Stops accepting virtual-thread work and waits briefly for running tasks.
+     * </summary>
+     * <remarks>
+     * Call from {@code onDisable}. Stops the dispatcher and cancels every periodic job registered with it.
+     * Tasks still in the {@link #mainQueue()}, including those queued by async work finishing during the wait,
+     * are then run without a budget. Later tasks that would need the platform scheduler (off-thread {@link #main},
+     * {@link #async}, every {@code *Later} variant, off-thread {@link #forEntity}/{@link #atLocation}) are dropped with
+     * a warning, since it rejects tasks from a disabled plugin. Later {@link #supplyAsync} futures fail with
+     * {@link RejectedExecutionException}, periodic jobs are never run, and the deprecated {@code repeat*} methods
+     * return -1.
+     * </remarks>
+     * <param name="timeoutMillis">How long to wait before interrupting what is still running.</param>
+     */
+    public void shutdown(final long timeoutMillis) {
+        shutDown = true;
+        synchronized (this) {
+            if (dispatcherTaskId != -1) backend.cancel(dispatcherTaskId);
+            dispatcherTaskId = -1;
+        }
+        dispatcher.cancelAll();
+        if (virtualThreads != null) {
+            virtualThreads.shutdown();
+            try {
+                if (!virtualThreads.awaitTermination(Math.max(0L, timeoutMillis), TimeUnit.MILLISECONDS)) {
+                    virtualThreads.shutdownNow();
+                }
+            } catch (InterruptedException e) {
+                virtualThreads.shutdownNow();
+                Thread.currentThread().interrupt();
+            }
+        }
+        mainQueueRunning = false;
+        if (backend.isGlobalThread()) {
+            mainQueue.drainAll();
+        } else if (mainQueue.depth() > 0) {
+            logger.log(Level.WARNING, "Scheduler shut down off the main thread; {0} main-thread tasks were not run", mainQueue.depth());
+        }
+    }
+
+    private void runCapped(final Runnable task) {
+        try {
+            asyncSlots.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        try {
+            task.run();
+        } catch (Throwable t) {
+            logger.log(Level.SEVERE, "Async task failed", t);
+        } finally {
+            asyncSlots.release();
+        }
+    }
+
+    /**
+     * <summary>
+     * Runs a task on the thread that owns the entity (the main thread outside Folia).
+     * </summary>
+     * <remarks>Runs inline when already on that thread. On Folia the task is dropped if the entity is removed first.</remarks>
+     * <param name="entity">Entity (e.g. a player) the task acts on.</param>
+     * <param name="task">The task to run.</param>
+     */
+    public void forEntity(final Entity entity, final Runnable task) {
+        Objects.requireNonNull(entity, "entity");
+        Objects.requireNonNull(task, "task");
+        if (backend.owns(entity)) task.run();
+        else if (!droppedAfterShutdown("Entity task")) backend.runForEntity(entity, task, 0L);
+    }
+
+    /**
+     * <summary>
+     * Runs a task later on the thread that owns the entity (the main thread outside Folia).
+     * </summary>
+     * <param name="entity">Entity (e.g. a player) the task acts on.</param>
+     * <param name="task">The task to run.</param>
+     * <param name="delayTicks">Delay in ticks before execution (minimum 1).</param>
+     */
+    public void forEntityLater(final Entity entity, final Runnable task, final long delayTicks) {
+        Objects.requireNonNull(entity, "entity");
+        Objects.requireNonNull(task, "task");
+        if (droppedAfterShutdown("Delayed entity task")) return;
+        backend.runForEntity(entity, task, Math.max(1L, delayTicks));
+    }
+
+    /**
+     * <summary>
+     * Runs a task on the thread that owns the location's region (the main thread outside Folia).
+     * </summary>
+     * <remarks>Runs inline when already on that thread.</remarks>
+     * <param name="location">Location the task acts on.</param>
+     * <param name="task">The task to run.</param>
+     */
+    public void atLocation(final Location location, final Runnable task) {
+        Objects.requireNonNull(location, "location");
+        Objects.requireNonNull(task, "task");
+        if (backend.owns(location)) task.run();
+        else if (!droppedAfterShutdown("Location task")) backend.runAtLocation(location, task, 0L);
+    }
+
+    /**
+     * <summary>
+     * Runs a task later on the thread that owns the location's region (the main thread outside Folia).
+     * </summary>
+     * <param name="location">Location the task acts on.</param>
+     * <param name="task">The task to run.</param>
+     * <param name="delayTicks">Delay in ticks before execution (minimum 1).</param>
+     */
+    public void atLocationLater(final Location location, final Runnable task, final long delayTicks) {
+        Objects.requireNonNull(location, "location");
+        Objects.requireNonNull(task, "task");
+        if (droppedAfterShutdown("Delayed location task")) return;
+        backend.runAtLocation(location, task, Math.max(1L, delayTicks));
     }
 }
\ No newline at end of file
@@ -0,0 +1,51 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dreamfire Studio
+ */
+package com.dreamfirestudios.scytheplugin.Core;
+
+import org.bukkit.Location;
+import org.bukkit.entity.Entity;
+
+/**
+ * <summary>Platform-specific task dispatch behind {@link Scheduler}.</summary>
+ * <remarks>
+ * <ul>
+ *   <li>{@link BukkitSchedulerBackend} runs everything "main" on the single server thread.</li>
+ *   <li>{@link FoliaSchedulerBackend} maps "main" to the global region, entity/location tasks to their owning
+ *   region, and async work to Folia's async scheduler.</li>
+ *   <li>Callers have already validated arguments and clamped delays/periods to at least 1 tick.</li>
+ *   <li>Only {@link TickDispatcher}'s driver and the deprecated {@code Scheduler#repeatMain}/{@code Scheduler#repeatAsync}
+ *   repeat at the platform level; their IDs are cancelled via {@link #cancel(int)}.</li>
+ * </ul>
+ * </remarks>
+ */
+interface SchedulerBackend {
+    /** Whether the calling thread may run global ("main") work inline. */
+    boolean isGlobalThread();
+
+    /** Whether the calling thread owns {@code entity}'s region. */
+    boolean owns(Entity entity);
+
+    /** Whether the calling thread owns {@code location}'s region. */
+    boolean owns(Location location);
+
+    void runGlobal(Runnable task);
+
+    void runGlobalLater(Runnable task, long delayTicks);
+
+    void runAsync(Runnable task);
+
+    void runAsyncLater(Runnable task, long delayTicks);
+
+    void runForEntity(Entity entity, Runnable task, long delayTicks);
+
+    void runAtLocation(Location location, Runnable task, long delayTicks);
+
+    int repeatGlobal(Runnable task, long delayTicks, long periodTicks);
+
+    int repeatAsync(Runnable task, long delayTicks, long periodTicks);
+
+    void cancel(int taskId);
+}
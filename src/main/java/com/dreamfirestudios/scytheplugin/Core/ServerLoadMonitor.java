@@ -0,0 +1,69 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dreamfire Studio
+ */
+package com.dreamfirestudios.scytheplugin.Core;
+
+import org.bukkit.Bukkit;
+
+import java.util.Objects;
+
+/**
+ * <summary>Smoothed server tick time (MSPT) and the load factor derived from it.</summary>
+ * <remarks>
+ * <ul>
+ *   <li>Samples Paper's rolling {@link Bukkit#getAverageTickTime()} on {@link Scheduler#every} and folds it
+ *   into an exponentially weighted moving average, so one slow tick does not swing the factor.</li>
+ *   <li>The sample is taken on the main thread, which on Folia is the global region's tick thread; Folia only
+ *   answers tick-time queries on a tick thread, and there it reports the global region's MSPT.</li>
+ *   <li>{@link #loadFactor()} is 1.0 while MSPT stays at or below {@value #TARGET_MSPT} ms and falls as
+ *   {@code TARGET_MSPT / mspt} beyond that, never below {@value #MIN_FACTOR}.</li>
+ *   <li>Reads are a single volatile load, cheap enough for every {@link RateLimiter} acquire.</li>
+ * </ul>
+ * </remarks>
+ */
+public final class ServerLoadMonitor {
+    /** MSPT up to which the server is considered healthy. */
+    public static final double TARGET_MSPT = 40.0d;
+
+    /** Lowest load factor, so throttled work still trickles through. */
+    public static final double MIN_FACTOR = 0.1d;
+
+    /** Weight of each new sample in the moving average. */
+    private static final double ALPHA = 0.2d;
+
+    private volatile double averageMspt;
+    private volatile double loadFactor = 1.0d;
+
+    /**
+     * <summary>Fold one MSPT sample into the average and recompute the load factor.</summary>
+     * <param name="mspt">Milliseconds per tick, e.g. from {@link Bukkit#getAverageTickTime()}.</param>
+     */
+    public void sample(final double mspt) {
+        if (!(mspt >= 0.0d)) return;
+        final double previous = averageMspt;
+        final double average = previous == 0.0d ? mspt : previous + ALPHA * (mspt - previous);
+        averageMspt = average;
+        loadFactor = average <= TARGET_MSPT ? 1.0d : Math.max(MIN_FACTOR, TARGET_MSPT / average);
+    }
+
+    /** Smoothed MSPT, or 0 before the first sample. */
+    public double averageMspt() {
+        return averageMspt;
+    }
+
+    /** Share of nominal throughput to allow right now, in {@code [MIN_FACTOR, 1]}. */
+    public double loadFactor() {
+        return loadFactor;
+    }
+
+    /**
+     * <summary>Start sampling every {@code periodTicks} on the main thread (the global region on Folia).</summary>
+     * <returns>Handle for cancellation.</returns>
+     */
+    public TickDispatcher.Job start(final Scheduler scheduler, final long periodTicks) {
+        Objects.requireNonNull(scheduler, "scheduler");
+        return scheduler.every(periodTicks, () -> sample(Bukkit.getAverageTickTime()));
+    }
+}
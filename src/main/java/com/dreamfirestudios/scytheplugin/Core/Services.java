@@ -12,6 +12,8 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 
 /**
  * <summary>
@@ -24,6 +26,13 @@ import java.util.concurrent.ConcurrentHashMap;
 public final class Services {
     private static final Map<Class<?>, Object> REGISTRY = new ConcurrentHashMap<>();
     private static final Map<String, RateLimiter> RATE_LIMITERS = new ConcurrentHashMap<>();
+    private static final Map<String, KeyedRateLimiter<?>> KEYED_RATE_LIMITERS = new ConcurrentHashMap<>();
+    private static final Map<String, ExpiringCache<?, ?>> CACHES = new ConcurrentHashMap<>();
+    private static final ExpirySweeper SWEEPER = new ExpirySweeper();
+    private static final ServerLoadMonitor LOAD = new ServerLoadMonitor();
+    private static final Executor ASYNC = task -> {
+        if (!scheduler().tryAsync(task)) throw new RejectedExecutionException("scheduler is shut down");
+    };
 
     private Services() {}
 
@@ -33,7 +42,22 @@ public final class Services {
      */
     public static void bootstrap(final JavaPlugin plugin) {
         Objects.requireNonNull(plugin, "plugin");
-        register(Scheduler.class, new Scheduler(plugin));
+        final Scheduler scheduler = new Scheduler(plugin);
+        register(Scheduler.class, scheduler);
+        register(EventBus.class, new EventBus(scheduler, plugin.getLogger()));
+        register(ExpirySweeper.class, SWEEPER);
+        register(ServerLoadMonitor.class, LOAD);
+        scheduler.start();
+        SWEEPER.start(scheduler, 1L);
+        LOAD.start(scheduler, 20L);
+    }
+
+    /**
+     * <summary>Stops background services started by {@link #bootstrap(JavaPlugin)}.</summary>
+     * <remarks>Call during plugin disable; waits up to 5 seconds for in-flight async work.</remarks>
+     */
+    public static void shutdown() {
+        maybe(Scheduler.class).ifPresent(scheduler -> scheduler.shutdown(5_000L));
     }
 
     /**
@@ -75,13 +99,44 @@ public final class Services {
     // --- Helpers (simple factories) ---
 
     /**
-     * <summary>Create a new expiring cache with a given TTL.</summary>
-     * <remarks>The name is informational (useful for logs/metrics).</remarks>
+     * <summary>Get or create a named expiring cache with a given TTL.</summary>
+     * <remarks>Expired entries are swept in the background. See {@link #expiringCache(String, ExpiringCache.Builder)}.</remarks>
      */
     public static <K, V> ExpiringCache<K, V> expiringCache(final String name, final Duration ttl) {
-        Objects.requireNonNull(name, "name");
         Objects.requireNonNull(ttl, "ttl");
-        return new ExpiringCache<>(ttl);
+        return expiringCache(name, ExpiringCache.builder(ttl));
+    }
+
+    /**
+     * <summary>Get or create a named expiring cache with a given TTL, holding at most {@code maximumSize} entries.</summary>
+     * <remarks>Once full, the least valuable entries are evicted (see {@link ExpiringCache}).</remarks>
+     */
+    public static <K, V> ExpiringCache<K, V> expiringCache(final String name, final Duration ttl, final long maximumSize) {
+        Objects.requireNonNull(ttl, "ttl");
+        return expiringCache(name, ExpiringCache.<K, V>builder(ttl).maximumSize(maximumSize));
+    }
+
+    /**
+     * <summary>Get or create a named expiring cache from a configured builder.</summary>
+     * <remarks>
+     * The cache is registered under {@code name}; later calls with the same name return the registered
+     * instance and ignore their builder. Async loads run on {@link Scheduler#async(Runnable)} and expired
+     * entries are swept in the background.
+     * </remarks>
+     */
+    @SuppressWarnings("unchecked")
+    public static <K, V> ExpiringCache<K, V> expiringCache(final String name, final ExpiringCache.Builder<K, V> builder) {
+        Objects.requireNonNull(name, "name");
+        Objects.requireNonNull(builder, "builder");
+        return (ExpiringCache<K, V>) CACHES.computeIfAbsent(name,
+                n -> SWEEPER.track(builder.name(n).executor(ASYNC).build()));
+    }
+
+    /**
+     * <summary>Snapshot of every registered cache, keyed by name.</summary>
+     */
+    public static Map<String, ExpiringCache<?, ?>> caches() {
+        return Map.copyOf(CACHES);
     }
 
     /**
@@ -93,10 +148,54 @@ public final class Services {
         return RATE_LIMITERS.computeIfAbsent(name, n -> RateLimiter.of(permits, window));
     }
 
+    /**
+     * <summary>Get or create a shared rate limiter whose rate follows server load.</summary>
+     * <remarks>
+     * Allows {@code permits} per {@code window} while MSPT is healthy and backs off as it rises
+     * (see {@link ServerLoadMonitor}); registered alongside the fixed-rate limiters.
+     * </remarks>
+     */
+    public static RateLimiter adaptiveRateLimiter(final String name, final int permits, final Duration window) {
+        Objects.requireNonNull(name, "name");
+        Objects.requireNonNull(window, "window");
+        return RATE_LIMITERS.computeIfAbsent(name, n -> RateLimiter.adaptive(permits, window, LOAD::loadFactor));
+    }
+
+    /**
+     * <summary>Server load monitor driving {@link #adaptiveRateLimiter}.</summary>
+     */
+    public static ServerLoadMonitor serverLoad() {
+        return LOAD;
+    }
+
+    /**
+     * <summary>Get or create a named per-key rate limiter (e.g. one budget per player).</summary>
+     * <remarks>
+     * Unlike the other factories, a call with a different budget replaces the registered limiter, so budgets read
+     * from config follow reloads. Idle keys are swept in the background.
+     * </remarks>
+     */
+    @SuppressWarnings("unchecked")
+    public static <K> KeyedRateLimiter<K> keyedRateLimiter(final String name, final int permits, final Duration window) {
+        Objects.requireNonNull(name, "name");
+        Objects.requireNonNull(window, "window");
+        final KeyedRateLimiter<?> existing = KEYED_RATE_LIMITERS.get(name);
+        if (existing != null && existing.hasBudget(permits, window)) return (KeyedRateLimiter<K>) existing;
+        return (KeyedRateLimiter<K>) KEYED_RATE_LIMITERS.compute(name, (n, current) ->
+                current != null && current.hasBudget(permits, window) ? current : SWEEPER.track(KeyedRateLimiter.of(permits, window)));
+    }
+
     /**
      * <summary>Resolve the scheduler service.</summary>
      */
     public static Scheduler scheduler() {
         return get(Scheduler.class);
     }
+
+    /**
+     * Shared event bus: internal typed subscribers plus Bukkit dispatch.
+     */
+    public static EventBus eventBus() {
+        return get(EventBus.class);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,207 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dreamfire Studio
+ */
+package com.dreamfirestudios.scytheplugin.Core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * <summary>Runs every periodic plugin job from a single per-tick task using a hashed timing wheel.</summary>
+ * <remarks>
+ * <ul>
+ *   <li>{@link #tick()} is driven by one platform repeating task; it only visits the wheel slot for the current
+ *   tick, so the cost per tick is the number of jobs due (plus later-round jobs sharing the slot).</li>
+ *   <li>Jobs may be scheduled and cancelled from any thread. New jobs enter through a lock-free queue and are
+ *   placed into the wheel on the next tick; cancelled jobs are dropped when their slot is next visited.</li>
+ *   <li>{@link #every} picks a phase per period round-robin, so jobs sharing a period land on different ticks.</li>
+ *   <li>Sync jobs run on the ticking thread. Async jobs are handed to an executor and skip a firing while the
+ *   previous run is still going, so slow async jobs never pile up.</li>
+ * </ul>
+ * </remarks>
+ */
+public final class TickDispatcher {
+    private static final int WHEEL_SIZE = 256;
+    private static final int MASK = WHEEL_SIZE - 1;
+
+    /**
+     * <summary>Cancellable handle for a periodic job.</summary>
+     */
+    public static final class Job {
+        private final int id;
+        private final long periodTicks;
+        private final boolean async;
+        private final Runnable task;
+        private final AtomicBoolean running = new AtomicBoolean();
+        private volatile boolean cancelled;
+        private volatile TickDispatcher owner;
+        /** Next tick to fire on; touched only by the ticking thread once placed. */
+        private long nextTick;
+
+        private Job(final int id, final long periodTicks, final boolean async, final Runnable task, final long firstTick) {
+            this.id = id;
+            this.periodTicks = periodTicks;
+            this.async = async;
+            this.task = task;
+            this.nextTick = firstTick;
+        }
+
+        /** ID accepted by {@link TickDispatcher#cancel(int)}. */
+        public int id() { return id; }
+
+        /** Ticks between runs. */
+        public long periodTicks() { return periodTicks; }
+
+        /** Whether the job runs off the ticking thread. */
+        public boolean isAsync() { return async; }
+
+        /** Whether {@link #cancel()} has been called. */
+        public boolean isCancelled() { return cancelled; }
+
+        /** Stop future runs; a run already in progress completes. */
+        public void cancel() {
+            cancelled = true;
+            final TickDispatcher d = owner;
+            if (d != null) d.jobs.remove(id);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private final List<Job>[] wheel = new List[WHEEL_SIZE];
+    private final Queue<Job> pending = new ConcurrentLinkedQueue<>();
+    private final Map<Integer, Job> jobs = new ConcurrentHashMap<>();
+    private final Map<Long, AtomicInteger> phaseCursors = new ConcurrentHashMap<>();
+    private final AtomicInteger nextId = new AtomicInteger();
+    private final Executor asyncExecutor;
+    private final Logger logger;
+    /** Ticks since start; written only by the ticking thread. */
+    private volatile long currentTick;
+
+    TickDispatcher(final Executor asyncExecutor, final Logger logger) {
+        this.asyncExecutor = asyncExecutor;
+        this.logger = logger;
+        for (int i = 0; i < WHEEL_SIZE; i++) wheel[i] = new ArrayList<>();
+    }
+
+    /**
+     * <summary>Run {@code task} every {@code periodTicks}, first after {@code delayTicks}.</summary>
+     * <param name="async">Run on the async executor instead of the ticking thread.</param>
+     */
+    public Job schedule(final Runnable task, final long delayTicks, final long periodTicks, final boolean async) {
+        Objects.requireNonNull(task, "task");
+        if (periodTicks <= 0L) throw new IllegalArgumentException("periodTicks must be > 0");
+        final Job job = new Job(nextId.incrementAndGet(), periodTicks, async, task, currentTick + Math.max(1L, delayTicks));
+        job.owner = this;
+        jobs.put(job.id, job);
+        pending.offer(job);
+        return job;
+    }
+
+    /**
+     * <summary>Run {@code task} every {@code periodTicks} with an automatically spread phase.</summary>
+     * <remarks>The n-th job registered with a given period first runs after {@code 1 + n % period} ticks.</remarks>
+     */
+    public Job every(final long periodTicks, final Runnable task, final boolean async) {
+        if (periodTicks <= 0L) throw new IllegalArgumentException("periodTicks must be > 0");
+        final int n = phaseCursors.computeIfAbsent(periodTicks, p -> new AtomicInteger()).getAndIncrement();
+        return schedule(task, 1L + Math.floorMod(n, periodTicks), periodTicks, async);
+    }
+
+    /**
+     * <summary>Cancel a job by ID.</summary>
+     * <returns>true if a live job was cancelled.</returns>
+     */
+    public boolean cancel(final int id) {
+        final Job job = jobs.get(id);
+        if (job == null) return false;
+        job.cancel();
+        return true;
+    }
+
+    /**
+     * <summary>Cancel every live job, including ones not yet placed on the wheel.</summary>
+     * <remarks>Cancelled jobs still on the wheel are dropped when their slot is next visited.</remarks>
+     */
+    public void cancelAll() {
+        for (final Job job : jobs.values()) job.cancel();
+        pending.clear();
+    }
+
+    /** Number of live jobs. */
+    public int jobCount() {
+        return jobs.size();
+    }
+
+    /**
+     * <summary>Advance one tick and run every job due on it.</summary>
+     * <remarks>Call from exactly one thread, once per server tick.</remarks>
+     */
+    public void tick() {
+        final long now = currentTick + 1L;
+        currentTick = now;
+
+        Job added;
+        while ((added = pending.poll()) != null) {
+            if (added.cancelled) continue;
+            if (added.nextTick < now) added.nextTick = now;
+            wheel[slot(added.nextTick)].add(added);
+        }
+
+        final List<Job> bucket = wheel[slot(now)];
+        int kept = 0;
+        for (int i = 0, n = bucket.size(); i < n; i++) {
+            final Job job = bucket.get(i);
+            if (job.cancelled) continue;
+            if (job.nextTick != now) {
+                bucket.set(kept++, job); // due in a later round
+                continue;
+            }
+            fire(job);
+            job.nextTick = now + job.periodTicks;
+            if (job.cancelled) continue;
+            final int next = slot(job.nextTick);
+            if (next == slot(now)) bucket.set(kept++, job);
+            else wheel[next].add(job);
+        }
+        for (int i = bucket.size() - 1; i >= kept; i--) bucket.remove(i);
+    }
+
+    private void fire(final Job job) {
+        if (!job.async) {
+            run(job.task);
+            return;
+        }
+        if (!job.running.compareAndSet(false, true)) return;
+        asyncExecutor.execute(() -> {
+            try {
+                run(job.task);
+            } finally {
+                job.running.set(false);
+            }
+        });
+    }
+
+    private void run(final Runnable task) {
+        try {
+            task.run();
+        } catch (Throwable t) {
+            logger.log(Level.SEVERE, "Periodic task failed", t);
+        }
+    }
+
+    private static int slot(final long tick) {
+        return (int) (tick & MASK);
+    }
+}
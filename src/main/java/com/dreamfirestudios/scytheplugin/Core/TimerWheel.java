@@ -0,0 +1,161 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dreamfire Studio
+ */
+package com.dreamfirestudios.scytheplugin.Core;
+
+import java.util.function.Consumer;
+
+/**
+ * <summary>Hierarchical timing wheel that finds expired entries without scanning the whole cache.</summary>
+ * <remarks>
+ * <ul>
+ *   <li>Five levels of buckets with spans of ~1.07s, ~1.14m, ~1.22h, ~1.63d and an overflow bucket.</li>
+ *   <li>{@link #schedule}, {@link #deschedule} and each expiration are O(1); entries that cascade to a
+ *   finer level are re-bucketed at most once per level.</li>
+ *   <li>{@link #advance} takes a work budget; nodes left over are parked and drained first on the next call,
+ *   so a large expiry wave is spread over several sweeps.</li>
+ *   <li>Not thread-safe; {@link ExpiringCache} only touches it while holding its eviction lock.</li>
+ * </ul>
+ * </remarks>
+ */
+final class TimerWheel {
+
+    private static final int[] BUCKETS = {64, 64, 32, 4, 1};
+    private static final long[] SPANS = {
+            1L << 30, // ~1.07s
+            1L << 36, // ~1.14m
+            1L << 42, // ~1.22h
+            1L << 47, // ~1.63d
+            4L << 47, // ~6.5d
+            4L << 47
+    };
+    private static final long[] SHIFT = {30, 36, 42, 47, 49};
+
+    /** Intrusive node linked into exactly one bucket while scheduled. */
+    abstract static class Timed {
+        Timed prevInTimer, nextInTimer;
+
+        /** Absolute {@link System#nanoTime()} deadline. */
+        abstract long expiresAt();
+    }
+
+    private static final class Sentinel extends Timed {
+        Sentinel() { prevInTimer = nextInTimer = this; }
+        @Override long expiresAt() { return 0L; }
+    }
+
+    private final Sentinel[][] wheel;
+    private final Sentinel pending = new Sentinel();
+    private long nanos;
+
+    TimerWheel(final long nowNanos) {
+        this.nanos = nowNanos;
+        this.wheel = new Sentinel[BUCKETS.length][];
+        for (int i = 0; i < BUCKETS.length; i++) {
+            wheel[i] = new Sentinel[BUCKETS[i]];
+            for (int j = 0; j < BUCKETS[i]; j++) wheel[i][j] = new Sentinel();
+        }
+    }
+
+    /**
+     * <summary>Link a node into the bucket matching its deadline.</summary>
+     */
+    void schedule(final Timed node) {
+        link(findBucket(node.expiresAt()), node);
+    }
+
+    /**
+     * <summary>Unlink a node if it is scheduled; no-op otherwise.</summary>
+     */
+    void deschedule(final Timed node) {
+        if (node.nextInTimer == null) return;
+        node.prevInTimer.nextInTimer = node.nextInTimer;
+        node.nextInTimer.prevInTimer = node.prevInTimer;
+        node.prevInTimer = node.nextInTimer = null;
+    }
+
+    /**
+     * <summary>Drop every scheduled node without expiring it.</summary>
+     */
+    void clear() {
+        for (final Sentinel[] level : wheel) {
+            for (final Sentinel s : level) clearBucket(s);
+        }
+        clearBucket(pending);
+    }
+
+    /**
+     * <summary>Advance the wheel to {@code now}, handing at most {@code budget} expired nodes to {@code expirer}.</summary>
+     * <returns>Number of nodes expired.</returns>
+     */
+    int advance(final long now, final int budget, final Consumer<Timed> expirer) {
+        int[] remaining = {budget};
+        drain(pending, now, remaining, expirer);
+
+        final long previous = nanos;
+        nanos = now;
+        for (int i = 0; i < SHIFT.length; i++) {
+            final long previousTicks = previous >>> SHIFT[i];
+            final long currentTicks = now >>> SHIFT[i];
+            final long delta = currentTicks - previousTicks;
+            if (delta <= 0L) break;
+            final int mask = BUCKETS[i] - 1;
+            final int steps = (int) Math.min(1L + delta, BUCKETS[i]);
+            final int start = (int) (previousTicks & mask);
+            for (int j = start; j < start + steps; j++) {
+                drain(wheel[i][j & mask], now, remaining, expirer);
+            }
+        }
+        return budget - remaining[0];
+    }
+
+    /** Detach the bucket, expire due nodes within budget, park the rest of the due ones, re-bucket the others. */
+    private void drain(final Sentinel bucket, final long now, final int[] remaining, final Consumer<Timed> expirer) {
+        Timed node = bucket.nextInTimer;
+        bucket.prevInTimer = bucket.nextInTimer = bucket;
+        while (node != bucket) {
+            final Timed next = node.nextInTimer;
+            node.prevInTimer = node.nextInTimer = null;
+            if (node.expiresAt() - now > 0L) {
+                schedule(node);
+            } else if (remaining[0] > 0) {
+                remaining[0]--;
+                expirer.accept(node);
+            } else {
+                link(pending, node);
+            }
+            node = next;
+        }
+    }
+
+    private Sentinel findBucket(final long time) {
+        final long duration = time - nanos;
+        if (duration <= 0L) return pending;
+        for (int i = 0; i < BUCKETS.length - 1; i++) {
+            if (duration < SPANS[i + 1]) {
+                final long ticks = time >>> SHIFT[i];
+                return wheel[i][(int) (ticks & (BUCKETS[i] - 1))];
+            }
+        }
+        return wheel[BUCKETS.length - 1][0];
+    }
+
+    private static void link(final Sentinel bucket, final Timed node) {
+        node.prevInTimer = bucket.prevInTimer;
+        node.nextInTimer = bucket;
+        bucket.prevInTimer.nextInTimer = node;
+        bucket.prevInTimer = node;
+    }
+
+    private static void clearBucket(final Sentinel s) {
+        Timed node = s.nextInTimer;
+        while (node != s) {
+            final Timed next = node.nextInTimer;
+            node.prevInTimer = node.nextInTimer = null;
+            node = next;
+        }
+        s.prevInTimer = s.nextInTimer = s;
+    }
+}
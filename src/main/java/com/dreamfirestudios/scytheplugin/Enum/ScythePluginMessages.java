@@ -53,8 +53,23 @@ public enum ScythePluginMessages {
     /** Player: configs reset. */
     PlayerResetConfig("#7fff36[%s]: Configs have been reset!"),
 
+    /** Player: per-player rate budget for an action is used up. */
+    PlayerRateLimited("#7fff36[%s]: You're doing that too often, please wait a moment!"),
+
     /** Generic notice when system is disabled. */
-    SystemIsntEnabled("#7fff36[%s]: System Isn't Enabled!");
+    SystemIsntEnabled("#7fff36[%s]: System Isn't Enabled!"),
+
+    /** Console: cache report header (expects second arg = cache count). */
+    CacheStatsHeader("#7fff36[%s]: %s registered cache(s):"),
+
+    /** Console: one cache report line (expects name, size, hit rate, hits, misses, evictions, expirations, loads, failures, avg/p99 load µs). */
+    CacheStatsLine("#7fff36[%s]: #ffffff%s #7fff36size=%s hitRate=%s hits=%s misses=%s evictions=%s expirations=%s loads=%s failures=%s avgLoad=%sµs p99Load=%sµs"),
+
+    /** Console: scheduler report (expects main-queue depth, executed, carried-over ticks, budget µs, free async slots). */
+    SchedulerStatsLine("#7fff36[%s]: #ffffffmain queue #7fff36depth=%s executed=%s carriedOver=%s budget=%sµs #ffffffasync #7fff36freeSlots=%s"),
+
+    /** Console: one config-access report line (expects config class, requests, loads, waiting, avg/max wait µs). */
+    ConfigAccessStatsLine("#7fff36[%s]: #ffffff%s #7fff36requests=%s loads=%s waiting=%s avgWait=%sµs maxWait=%sµs");
 
     private final String template;
 
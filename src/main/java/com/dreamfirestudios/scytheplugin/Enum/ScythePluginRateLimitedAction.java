@@ -0,0 +1,37 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dreamfire Studio
+ */
+package com.dreamfirestudios.scytheplugin.Enum;
+
+/**
+ * /// <summary>
+ * Player-triggered operations that get their own per-player rate budget.
+ * /// </summary>
+ * /// <remarks>
+ * Budgets come from {@code ScythePluginConfig}; the command and menu paths of an operation share one budget.
+ * /// </remarks>
+ */
+public enum ScythePluginRateLimitedAction {
+    /** {@code /scytheplugin configs reload} and the menu reload button. */
+    ConfigsReload,
+
+    /** {@code /scytheplugin configs reset} and the menu reset button. */
+    ConfigsReset,
+
+    /** {@code /scytheplugin serialize}. */
+    SerializeItem,
+
+    /** {@code /scytheplugin enable} and the menu system toggle. */
+    ToggleSystem;
+
+    private final String limiterName = "__scythe_player_" + name();
+
+    /**
+     * /// <summary>Registry name of this action's limiter in {@code Services}.</summary>
+     */
+    public String GetLimiterName() {
+        return limiterName;
+    }
+}
@@ -24,6 +24,7 @@
 package com.dreamfirestudios.scytheplugin.Event;
 
 import com.dreamfirestudios.scytheplugin.Core.Event.AbstractScythePluginEvent;
+import org.bukkit.event.HandlerList;
 
 /**
  * /// <summary>
@@ -31,9 +32,17 @@ import com.dreamfirestudios.scytheplugin.Core.Event.AbstractScythePluginEvent;
  * /// </summary>
  * /// <remarks>
  * <ul>
- *   <li>Always dispatched on the Bukkit main thread (via {@link AbstractScythePluginEvent#callEvent()}).</li>
+ *   <li>Dispatched on the Bukkit main thread via {@link com.dreamfirestudios.scytheplugin.Core.EventBus#fire}; in-plugin
+ *   code should subscribe through {@code Services.eventBus()} rather than a Bukkit listener.</li>
  *   <li>Listeners may safely assume updated config values are available.</li>
  * </ul>
  * </remarks>
  */
-public final class ScythePluginConfigReloadEvent extends AbstractScythePluginEvent { }
+public final class ScythePluginConfigReloadEvent extends AbstractScythePluginEvent {
+    private static final HandlerList HANDLERS = new HandlerList();
+
+    @Override
+    public HandlerList getHandlers() { return HANDLERS; }
+
+    public static HandlerList getHandlerList() { return HANDLERS; }
+}
@@ -25,6 +25,7 @@ package com.dreamfirestudios.scytheplugin.Event;
 
 import com.dreamfirestudios.scytheplugin.Core.Event.AbstractScythePluginEvent;
 import lombok.Getter;
+import org.bukkit.event.HandlerList;
 
 /**
  * /// <summary>
@@ -36,6 +37,8 @@ import lombok.Getter;
  */
 @Getter
 public final class ScythePluginSystemToggleEvent extends AbstractScythePluginEvent {
+    private static final HandlerList HANDLERS = new HandlerList();
+
     /** Previous enabled state. */
     private final boolean oldState;
 
@@ -52,4 +55,9 @@ public final class ScythePluginSystemToggleEvent extends AbstractScythePluginEve
         this.oldState = oldState;
         this.newState = newState;
     }
+
+    @Override
+    public HandlerList getHandlers() { return HANDLERS; }
+
+    public static HandlerList getHandlerList() { return HANDLERS; }
 }
\ No newline at end of file
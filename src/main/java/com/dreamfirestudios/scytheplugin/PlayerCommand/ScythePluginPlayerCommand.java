@@ -30,24 +30,28 @@ import com.dreamfirestudios.dreamcommand.Enums.TabType;
 import com.dreamfirestudios.dreamcore.DreamChat.DreamMessageSettings;
 import com.dreamfirestudios.dreamcore.DreamJava.PulseAutoRegister;
 import com.dreamfirestudios.scytheplugin.API.ScythePluginAPI;
+import com.dreamfirestudios.scytheplugin.Core.Config.ConfigAccess;
 import com.dreamfirestudios.scytheplugin.Core.PlayerCommand.ScythePluginPlayerCommandHelper;
 import com.dreamfirestudios.scytheplugin.Core.Services;
 import com.dreamfirestudios.scytheplugin.Enum.ScythePluginMessages;
 import com.dreamfirestudios.scytheplugin.Enum.ScythePluginPermissions;
-import com.dreamfirestudios.scytheplugin.ScythePlugin;
-import com.dreamfirestudios.scytheplugin.PulseConfig.ScythePluginMessagesConfig;
+import com.dreamfirestudios.scytheplugin.Enum.ScythePluginRateLimitedAction;
 import com.dreamfirestudios.scytheplugin.SmartInvs.ScythePluginCoreMenu;
 import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemStack;
 
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Player command entrypoint for {@code ScythePlugin}.
  *
  * Responsibilities:
  *  - Expose admin GUI and operational commands to players.
- *  - Use PlayerCommandHelper for consistent enable/permission checks.
+ *  - Use PlayerCommandHelper for consistent enable/permission checks and per-player rate budgets.
  *  - Marshal UI/feedback to the main thread via Services.scheduler().
+ *  - Each command is one CompletableFuture pipeline: check, act, reply. Stages run on the thread that
+ *    completed the previous one, so the only hops are the ones a stage actually needs.
  */
 @PulseAutoRegister
 public final class ScythePluginPlayerCommand {
@@ -56,36 +60,34 @@ public final class ScythePluginPlayerCommand {
     public static final String[] COMMAND_ALIASES = {};
     public static final boolean COMMAND_DEBUG = false;
 
+    /** Completed stage for pipelines that stop early (check failed, system disabled). */
+    private static final CompletableFuture<Void> DONE = CompletableFuture.completedFuture(null);
+
     public ScythePluginPlayerCommand() { }
 
     /** Open admin GUI (permission-only). */
     @PCMethod({})
     public void ScythePluginMethod(final Player player) {
         Objects.requireNonNull(player, "player");
-        ScythePluginPlayerCommandHelper.checkPermission(
-                ScythePluginPermissions.AdminConsole, player, true, DreamMessageSettings.all(),
-                () -> Services.scheduler().main(() -> new ScythePluginCoreMenu(player))
-        );
+        ScythePluginPlayerCommandHelper.requirePermission(
+                        ScythePluginPermissions.AdminConsole, player, true, DreamMessageSettings.all())
+                .thenAccept(ok -> {
+                    if (ok) Services.scheduler().forEntity(player, () -> new ScythePluginCoreMenu(player));
+                })
+                .exceptionally(t -> ConfigAccess.logFailure("/" + COMMAND_NAME + " open menu", t));
     }
 
     /** Enable/disable system (permission-only). */
     @PCMethod({"enable"})
     public void ScythePluginEnableMethod(final Player player, final boolean state) {
         Objects.requireNonNull(player, "player");
-        ScythePluginPlayerCommandHelper.checkPermission(
-                ScythePluginPermissions.EnableSystem, player, true, DreamMessageSettings.all(),
-                () -> ScythePluginAPI.ScythePluginEnableSystem(cfg -> {
-                    ScythePluginMessagesConfig.ReturnStaticAsync(
-                            ScythePlugin.GetScythePlugin(),
-                            ScythePluginMessagesConfig.class,
-                            messageConfig -> Services.scheduler().main(() ->
-                                    messageConfig.SendMessageToPlayer(
-                                            state ? ScythePluginMessages.ConsoleEnabledSystem
-                                                    : ScythePluginMessages.ConsoleDisableSystem,
-                                            player, DreamMessageSettings.all()))
-                    );
-                }, state)
-        );
+        ScythePluginPlayerCommandHelper.requirePermission(
+                        ScythePluginPermissions.EnableSystem, ScythePluginRateLimitedAction.ToggleSystem, player, true, DreamMessageSettings.all())
+                .thenCompose(ok -> !ok ? DONE : ScythePluginAPI.ScythePluginEnableSystemAsync(state)
+                        .thenCompose(cfg -> ScythePluginPlayerCommandHelper.reply(player,
+                                state ? ScythePluginMessages.ConsoleEnabledSystem : ScythePluginMessages.ConsoleDisableSystem,
+                                DreamMessageSettings.all())))
+                .exceptionally(t -> ConfigAccess.logFailure("/" + COMMAND_NAME + " enable", t));
     }
 
     /** Serialize main-hand item (permission-only). */
@@ -95,56 +97,36 @@ public final class ScythePluginPlayerCommand {
         Objects.requireNonNull(player, "player");
         Objects.requireNonNull(itemName, "itemName");
 
-        ScythePluginPlayerCommandHelper.checkPermission(
-                ScythePluginPermissions.SerializeItem, player, true, DreamMessageSettings.all(),
-                () -> ScythePluginAPI.ScythePluginSerializeItem(x -> {
-                    ScythePluginMessagesConfig.ReturnStaticAsync(
-                            ScythePlugin.GetScythePlugin(),
-                            ScythePluginMessagesConfig.class,
-                            messageConfig -> Services.scheduler().main(() ->
-                                    messageConfig.SendMessageToPlayer(
-                                            ScythePluginMessages.PlayerSerializedItem,
-                                            player, DreamMessageSettings.all(), itemName))
-                    );
-                }, itemName, player.getInventory().getItemInMainHand())
-        );
+        final ItemStack item = player.getInventory().getItemInMainHand().clone();
+        ScythePluginPlayerCommandHelper.requirePermission(
+                        ScythePluginPermissions.SerializeItem, ScythePluginRateLimitedAction.SerializeItem, player, true, DreamMessageSettings.all())
+                .thenCompose(ok -> !ok ? DONE : ScythePluginAPI.ScythePluginSerializeItemAsync(itemName, item)
+                        .thenCompose(cfg -> ScythePluginPlayerCommandHelper.reply(player,
+                                ScythePluginMessages.PlayerSerializedItem, DreamMessageSettings.all(), itemName)))
+                .exceptionally(t -> ConfigAccess.logFailure("/" + COMMAND_NAME + " serialize", t));
     }
 
     /** Reset configs (requires system enabled + permission). */
     @PCMethod({"configs", "reset"})
     public void ScythePluginConfigsResetMethod(final Player player) {
         Objects.requireNonNull(player, "player");
-        ScythePluginPlayerCommandHelper.checkSystemEnabledAndPermission(
-                ScythePluginPermissions.ResetConfigs, player, true, DreamMessageSettings.all(),
-                () -> {
-                    ScythePluginAPI.ScythePluginResetConfigs(DreamMessageSettings.all());
-                    ScythePluginMessagesConfig.ReturnStaticAsync(
-                            ScythePlugin.GetScythePlugin(),
-                            ScythePluginMessagesConfig.class,
-                            messageConfig -> Services.scheduler().main(() ->
-                                    messageConfig.SendMessageToPlayer(
-                                            ScythePluginMessages.PlayerResetConfig,
-                                            player, DreamMessageSettings.all()))
-                    );
-                });
+        ScythePluginPlayerCommandHelper.requireSystemEnabledAndPermission(
+                        ScythePluginPermissions.ResetConfigs, ScythePluginRateLimitedAction.ConfigsReset, player, true, DreamMessageSettings.all())
+                .thenCompose(ok -> !ok ? DONE : ScythePluginAPI.ScythePluginResetConfigsAsync(DreamMessageSettings.all())
+                        .thenCompose(done -> !done ? DONE : ScythePluginPlayerCommandHelper.reply(player,
+                                ScythePluginMessages.PlayerResetConfig, DreamMessageSettings.all())))
+                .exceptionally(t -> ConfigAccess.logFailure("/" + COMMAND_NAME + " configs reset", t));
     }
 
     /** Reload configs (requires system enabled + permission). */
     @PCMethod({"configs", "reload"})
     public void ScythePluginReloadMethod(final Player player) {
         Objects.requireNonNull(player, "player");
-        ScythePluginPlayerCommandHelper.checkSystemEnabledAndPermission(
-                ScythePluginPermissions.ReloadConfigs, player, true, DreamMessageSettings.all(),
-                () -> {
-                    ScythePluginAPI.ScythePluginReloadConfigs(DreamMessageSettings.all());
-                    ScythePluginMessagesConfig.ReturnStaticAsync(
-                            ScythePlugin.GetScythePlugin(),
-                            ScythePluginMessagesConfig.class,
-                            messageConfig -> Services.scheduler().main(() ->
-                                    messageConfig.SendMessageToPlayer(
-                                            ScythePluginMessages.PlayerReloadedConfig,
-                                            player, DreamMessageSettings.all()))
-                    );
-                });
+        ScythePluginPlayerCommandHelper.requireSystemEnabledAndPermission(
+                        ScythePluginPermissions.ReloadConfigs, ScythePluginRateLimitedAction.ConfigsReload, player, true, DreamMessageSettings.all())
+                .thenCompose(ok -> !ok ? DONE : ScythePluginAPI.ScythePluginReloadConfigsAsync(DreamMessageSettings.all())
+                        .thenCompose(done -> !done ? DONE : ScythePluginPlayerCommandHelper.reply(player,
+                                ScythePluginMessages.PlayerReloadedConfig, DreamMessageSettings.all())))
+                .exceptionally(t -> ConfigAccess.logFailure("/" + COMMAND_NAME + " configs reload", t));
     }
-}
\ No newline at end of file
+}
@@ -28,15 +28,25 @@ import com.dreamfirestudios.dreamconfig.Abstract.StaticPulseConfig;
 import com.dreamfirestudios.dreamconfig.Interface.ConfigVersion;
 import com.dreamfirestudios.dreamconfig.Interface.StorageComment;
 import com.dreamfirestudios.dreamcore.DreamJava.PulseAutoRegister;
+import com.dreamfirestudios.scytheplugin.Core.Config.ConfigAccess;
+import com.dreamfirestudios.scytheplugin.Core.Services;
+import com.dreamfirestudios.scytheplugin.Enum.ScythePluginRateLimitedAction;
 import com.dreamfirestudios.scytheplugin.Event.ScythePluginSystemToggleEvent;
 import com.dreamfirestudios.scytheplugin.ScythePlugin;
 import org.bukkit.plugin.java.JavaPlugin;
 
+import java.time.Duration;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 
 /**
  * Primary configuration for {@code ScythePlugin}.
+ *
+ * <p>Hot paths read an immutable {@link Snapshot} instead of resolving the config asynchronously. The snapshot is
+ * republished whenever the config is loaded, reloaded, reset or toggled, so {@link #Current()} is a single volatile
+ * read on any thread. {@link #SnapshotAsync()} and {@link #WithSnapshot(Consumer)} fall back to the async accessor
+ * only until the first publish.</p>
  */
 @PulseAutoRegister
 @ConfigVersion(1)
@@ -50,10 +60,135 @@ public class ScythePluginConfig extends StaticPulseConfig<ScythePluginConfig> {
     @StorageComment("Display debugs in the console logs for changes in this config!")
     public boolean debugConfig = false;
 
+    @StorageComment("Per-player budget: config reloads allowed per rate-limit window.")
+    public int reloadPermitsPerPlayer = 1;
+
+    @StorageComment("Per-player budget: config resets allowed per rate-limit window.")
+    public int resetPermitsPerPlayer = 1;
+
+    @StorageComment("Per-player budget: item serializations allowed per rate-limit window.")
+    public int serializePermitsPerPlayer = 5;
+
+    @StorageComment("Per-player budget: system toggles allowed per rate-limit window.")
+    public int togglePermitsPerPlayer = 2;
+
+    @StorageComment("Length of the per-player rate-limit window in seconds.")
+    public int playerRateLimitWindowSeconds = 5;
+
+    @StorageComment("Main-thread time (microseconds) spent per tick on queued plugin work; the rest waits for the next tick.")
+    public int mainThreadBudgetMicros = 2_000;
+
+    @StorageComment("Ticks that reload/reset/toggle requests wait to merge into one run (20 = 1 second, 0 = no wait).")
+    public int coalesceWindowTicks = 10;
+
     @Override public boolean useSubFolder() { return false; }
 
     /**
-     * Update {@link #systemEnabled} and emit a {@link ScythePluginSystemToggleEvent}.
+     * Immutable copy of every field, safe to read from any thread. Holds plain values only; services sized from
+     * it (such as per-player rate limiters) are resolved by the caller.
+     */
+    public record Snapshot(boolean systemEnabled, boolean debugConfig,
+                           int reloadPermitsPerPlayer, int resetPermitsPerPlayer,
+                           int serializePermitsPerPlayer, int togglePermitsPerPlayer,
+                           int playerRateLimitWindowSeconds, int mainThreadBudgetMicros,
+                           int coalesceWindowTicks) {
+
+        /**
+         * Per-player permits for {@code action} in each {@link #PlayerRateLimitWindow()}; at least 1.
+         *
+         * @param action rate-limited operation (non-null)
+         * @return permits per window
+         */
+        public int PlayerPermits(final ScythePluginRateLimitedAction action) {
+            Objects.requireNonNull(action, "action");
+            final int permits = switch (action) {
+                case ConfigsReload -> reloadPermitsPerPlayer;
+                case ConfigsReset -> resetPermitsPerPlayer;
+                case SerializeItem -> serializePermitsPerPlayer;
+                case ToggleSystem -> togglePermitsPerPlayer;
+            };
+            return Math.max(1, permits);
+        }
+
+        /**
+         * Length of the per-player rate-limit window; at least one second.
+         */
+        public Duration PlayerRateLimitWindow() {
+            return Duration.ofSeconds(Math.max(1, playerRateLimitWindowSeconds));
+        }
+    }
+
+    private static volatile Snapshot CURRENT;
+
+    /**
+     * Latest published snapshot, or {@code null} before the config has loaded.
+     */
+    public static Snapshot Current() {
+        return CURRENT;
+    }
+
+    /**
+     * Latest published snapshot; completes immediately once the config has loaded, otherwise after loading it.
+     */
+    public static CompletableFuture<Snapshot> SnapshotAsync() {
+        final Snapshot snapshot = CURRENT;
+        return snapshot != null
+                ? CompletableFuture.completedFuture(snapshot)
+                : ConfigAccess.config(ScythePluginConfig.class).thenApply(ScythePluginConfig::PublishedOrPublish);
+    }
+
+    /**
+     * Run {@code action} with the latest snapshot: inline on the calling thread once the config has loaded,
+     * otherwise on the config callback thread after loading it. Concurrent first-time callers share one load.
+     *
+     * @param action consumer of the snapshot (non-null)
+     */
+    public static void WithSnapshot(final Consumer<Snapshot> action) {
+        Objects.requireNonNull(action, "action");
+        final Snapshot snapshot = CURRENT;
+        if (snapshot != null) action.accept(snapshot);
+        else SnapshotAsync().thenAccept(action).exceptionally(t -> ConfigAccess.logFailure("Config snapshot consumer", t));
+    }
+
+    private Snapshot PublishedOrPublish() {
+        final Snapshot snapshot = CURRENT;
+        return snapshot != null ? snapshot : Publish();
+    }
+
+    /**
+     * Copy the current field values into a {@link Snapshot} without publishing it.
+     */
+    public Snapshot ToSnapshot() {
+        return new Snapshot(systemEnabled, debugConfig, reloadPermitsPerPlayer, resetPermitsPerPlayer,
+                serializePermitsPerPlayer, togglePermitsPerPlayer, playerRateLimitWindowSeconds,
+                mainThreadBudgetMicros, coalesceWindowTicks);
+    }
+
+    /**
+     * Publish the current field values as the snapshot seen by {@link #Current()}.
+     *
+     * @return the published snapshot
+     */
+    public Snapshot Publish() {
+        final Snapshot snapshot = ToSnapshot();
+        CURRENT = snapshot;
+        return snapshot;
+    }
+
+    /**
+     * Publish a fresh {@link Snapshot} and push the Core tunables from this config into the running services.
+     * API-level settings are applied by {@code ScythePluginAPI.ApplyRuntimeSettings}, which calls this first.
+     *
+     * @return the published snapshot
+     */
+    public Snapshot ApplyRuntimeSettings() {
+        final Snapshot snapshot = Publish();
+        Services.scheduler().mainQueue().budget(Duration.ofNanos(Math.max(100L, mainThreadBudgetMicros) * 1_000L));
+        return snapshot;
+    }
+
+    /**
+     * Update {@link #systemEnabled}, publish the new {@link Snapshot} and emit a {@link ScythePluginSystemToggleEvent}.
      * Event is dispatched before persisting so listeners see the transition.
      *
      * @param onSuccess callback invoked post-save (non-null)
@@ -62,8 +197,9 @@ public class ScythePluginConfig extends StaticPulseConfig<ScythePluginConfig> {
     public void ToggleSystemEnabled(final Consumer<ScythePluginConfig> onSuccess, final boolean newState) {
         Objects.requireNonNull(onSuccess, "onSuccess");
         final var event = new ScythePluginSystemToggleEvent(systemEnabled, newState);
-        event.callEvent(); // dispatch on main thread if enabled (see Abstract event)
+        Services.eventBus().fire(event); // internal subscribers, then Bukkit on the right thread
         systemEnabled = newState;
+        Publish();
         SaveDreamConfig(ScythePlugin.GetScythePlugin(), onSuccess);
     }
 }
\ No newline at end of file
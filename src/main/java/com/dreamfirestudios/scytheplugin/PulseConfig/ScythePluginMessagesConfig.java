@@ -29,6 +29,7 @@ import com.dreamfirestudios.dreamcore.DreamChat.DreamChat;
 import com.dreamfirestudios.dreamcore.DreamChat.DreamMessageFormatter;
 import com.dreamfirestudios.dreamcore.DreamChat.DreamMessageSettings;
 import com.dreamfirestudios.dreamcore.DreamJava.PulseAutoRegister;
+import com.dreamfirestudios.scytheplugin.Core.Config.ConfigAccess;
 import com.dreamfirestudios.scytheplugin.Core.Services;
 import com.dreamfirestudios.scytheplugin.Enum.ScythePluginMessages;
 import com.dreamfirestudios.scytheplugin.ScythePlugin;
@@ -38,10 +39,12 @@ import org.bukkit.conversations.ConversationContext;
 import org.bukkit.entity.Player;
 import org.bukkit.plugin.java.JavaPlugin;
 
+import java.util.List;
 import java.util.Objects;
 
 /**
- * Localized/templated message configuration with main-thread-safe delivery.
+ * Localized/templated message configuration with thread-safe delivery: player messages run on the player's thread
+ * ({@code Scheduler#forEntity}), console and broadcast messages on the main thread (the global region on Folia).
  */
 @PulseAutoRegister
 @ConfigVersion(1)
@@ -94,16 +97,15 @@ public final class ScythePluginMessagesConfig
         Objects.requireNonNull(perm, "perm");
         Objects.requireNonNull(settings, "settings");
 
-        Services.scheduler().main(() -> {
-            for (final var player : Bukkit.getOnlinePlayers()) {
-                ScythePluginPermissionsConfigs.ReturnStaticAsync(ScythePlugin.GetScythePlugin(),
-                        ScythePluginPermissionsConfigs.class, cfg -> {
-                            if (cfg.DoesPlayerHavePermission(perm, player, false, settings)) {
-                                SendMessageToPlayer(msg, player, settings, args);
-                            }
-                        });
-            }
-        });
+        ConfigAccess.enumConfig(ScythePluginPermissionsConfigs.class)
+                .thenAccept(cfg -> Services.scheduler().main(() ->
+                        Services.scheduler().forEachCooperatively(List.copyOf(Bukkit.getOnlinePlayers()), player ->
+                                Services.scheduler().forEntity(player, () -> {
+                                    if (cfg.DoesPlayerHavePermission(perm, player, false, settings)) {
+                                        SendMessageToPlayer(msg, player, settings, args);
+                                    }
+                                }))))
+                .exceptionally(t -> ConfigAccess.logFailure("Permission broadcast of " + msg, t));
     }
 
     public void SendMessageToPlayer(final ScythePluginMessages msg, final Player player,
@@ -114,7 +116,7 @@ public final class ScythePluginMessagesConfig
         final var template = getDefaultValueFor(msg);
         if (template == null || template.isEmpty()) return;
 
-        Services.scheduler().main(() ->
+        Services.scheduler().forEntity(player, () ->
                 DreamChat.SendMessageToPlayer(player,
                         formatPlain(template, player, settings, withPlugin(args)), settings));
     }
@@ -127,9 +129,10 @@ public final class ScythePluginMessagesConfig
         final var template = getDefaultValueFor(msg);
         if (template == null || template.isEmpty()) return;
 
-        Services.scheduler().main(() ->
-                ctx.getForWhom().sendRawMessage(
-                        formatPlain(template, player, settings, withPlugin(args))));
+        final Runnable send = () -> ctx.getForWhom().sendRawMessage(
+                formatPlain(template, player, settings, withPlugin(args)));
+        if (player != null) Services.scheduler().forEntity(player, send);
+        else Services.scheduler().main(send);
     }
 
     public void SendMessageToConsole(final ScythePluginMessages msg, final DreamMessageSettings settings, final Object... args){
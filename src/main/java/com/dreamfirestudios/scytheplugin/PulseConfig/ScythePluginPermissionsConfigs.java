@@ -12,16 +12,19 @@ import com.dreamfirestudios.dreamcore.DreamChat.DreamMessageSettings;
 import com.dreamfirestudios.dreamcore.DreamJava.PulseAutoRegister;
 import com.dreamfirestudios.dreamcore.DreamLuckPerms.DreamLuckPerms;
 import com.dreamfirestudios.scytheplugin.Core.ExpiringCache;
+import com.dreamfirestudios.scytheplugin.Core.Permission.ResolvedNodes;
+import com.dreamfirestudios.scytheplugin.Core.Permission.ScythePluginPermissionCache;
 import com.dreamfirestudios.scytheplugin.Core.Services;
-import com.dreamfirestudios.scytheplugin.Enum.ScythePluginPermissionLevel;
 import com.dreamfirestudios.scytheplugin.Enum.ScythePluginPermissions;
 import com.dreamfirestudios.scytheplugin.ScythePlugin;
-import com.dreamfirestudios.scytheplugin.Util.PermissionStrings;
 import org.bukkit.entity.Player;
 import org.bukkit.plugin.java.JavaPlugin;
 
 import java.time.Duration;
+import java.util.Map;
 import java.util.Objects;
+import java.util.UUID;
+import java.util.function.BiFunction;
 
 /**
  * <summary>Permission string resolution and checks with lightweight caching + deny cooldown.</summary>
@@ -30,13 +33,27 @@ import java.util.Objects;
 @ConfigVersion(1)
 public final class ScythePluginPermissionsConfigs extends StaticEnumPulseConfig<ScythePluginPermissionsConfigs, ScythePluginPermissions, String> {
 
-    /** Small cache of (player+perm-combo) -> allowed for 5s to reduce LP lookups. */
-    private final ExpiringCache<String, Boolean> permCache =
-            Services.expiringCache("__scythe_perm_cache", Duration.ofSeconds(5));
+    /** Upper bound on tracked players / (player,perm) cooldowns; keeps heap flat regardless of player churn. */
+    private static final long PERM_CACHE_MAX_ENTRIES = 16_384L;
+
+    /**
+     * Per-player permission bitsets shared by every config instance. Kept exact by
+     * {@code ScythePluginPermissionInvalidator}, and results resolved before an invalidation are never stored after
+     * it, so the TTL is only a safety net. States older than a minute are re-resolved in the background on their
+     * next check (refresh-ahead), which also heals any invalidation LuckPerms never reported.
+     */
+    private static final ScythePluginPermissionCache PERMISSIONS = new ScythePluginPermissionCache(
+            "__scythe_perm_state", Duration.ofMinutes(30), Duration.ofMinutes(1), PERM_CACHE_MAX_ENTRIES);
+
+    /** Resolved nodes + denial text; replaced wholesale by {@link #RebuildNodeTable()}. */
+    private static volatile Map<ScythePluginPermissions, ResolvedNodes> NODES;
 
     /** Per (player,perm) deny cooldown ≈ 2 messages/second. */
     private final ExpiringCache<String, Boolean> denyCooldown =
-            Services.expiringCache("__scythe_perm_deny_cooldown", Duration.ofMillis(500));
+            Services.expiringCache("__scythe_perm_deny_cooldown", Duration.ofMillis(500), PERM_CACHE_MAX_ENTRIES);
+
+    /** Loader bound once per instance, so a permission-cache hit allocates nothing. */
+    private final BiFunction<UUID, Player, ScythePluginPermissionCache.State> resolver = this::resolveConnected;
 
     @Override public JavaPlugin mainClass() { return ScythePlugin.GetScythePlugin(); }
     @Override protected Class<ScythePluginPermissions> getKeyClass() { return ScythePluginPermissions.class; }
@@ -50,6 +67,73 @@ public final class ScythePluginPermissionsConfigs extends StaticEnumPulseConfig<
 
     @Override public boolean useSubFolder() { return false; }
 
+    /**
+     * <summary>Shared per-player permission cache used by {@link #DoesPlayerHavePermission}.</summary>
+     */
+    public static ScythePluginPermissionCache GetPermissionCache() {
+        return PERMISSIONS;
+    }
+
+    /**
+     * <summary>Re-resolve every permission node and publish the new table atomically.</summary>
+     * <remarks>
+     * Node formats come from {@link #getDefaultValueFor}, as the uncached check always did, so the enforced nodes
+     * do not depend on edits to this config's values. Called after each config load/reload; checks running
+     * concurrently keep using the previous table.
+     * </remarks>
+     * <returns>The table now in use.</returns>
+     */
+    public Map<ScythePluginPermissions, ResolvedNodes> RebuildNodeTable() {
+        final Map<ScythePluginPermissions, ResolvedNodes> table =
+                ResolvedNodes.table(ScythePlugin.class.getSimpleName(), this::getDefaultValueFor);
+        NODES = table;
+        return table;
+    }
+
+    /**
+     * <summary>Resolve every {@link ScythePluginPermissions} for a player in one pass and cache the result.</summary>
+     * <remarks>
+     * Fetches the LuckPerms user once and tests both the Admin and Player node of each permission with
+     * {@link DreamLuckPerms#hasPermission}, the same check a single lookup uses, so wildcards, defaults and
+     * undefined nodes resolve identically. Returns the cached state instead while it is live, refreshing it in the
+     * background once it is over a minute old. A result is only cached if the player was not invalidated while it
+     * was being resolved, which makes it safe to call from async config callbacks. Permissions are read from the
+     * given {@link Player}, never looked up again by UUID, so a player between login and join resolves normally.
+     * A player whose connection has closed is resolved without caching: no quit event would clear the entry.
+     * </remarks>
+     * <example>
+     * <code>
+     * var state = cfg.EvaluateAll(player);
+     * boolean canReload = state.isGranted(ScythePluginPermissions.ReloadConfigs);
+     * </code>
+     * </example>
+     */
+    public ScythePluginPermissionCache.State EvaluateAll(final Player player) {
+        Objects.requireNonNull(player, "player");
+        if (!player.isConnected()) return resolve(player);
+        return PERMISSIONS.get(player, resolver);
+    }
+
+    /** Cache loader; failing keeps a refresh that raced a disconnect out of the cache. */
+    private ScythePluginPermissionCache.State resolveConnected(final UUID playerId, final Player player) {
+        if (!player.isConnected()) throw new IllegalStateException("Player " + playerId + " disconnected during permission resolve");
+        return resolve(player);
+    }
+
+    private ScythePluginPermissionCache.State resolve(final Player player) {
+        final var user = DreamLuckPerms.getUser(player);
+        final Map<ScythePluginPermissions, ResolvedNodes> table = nodeTable();
+        long granted = 0L;
+        for (final Map.Entry<ScythePluginPermissions, ResolvedNodes> e : table.entrySet()) {
+            final ResolvedNodes nodes = e.getValue();
+            if (DreamLuckPerms.hasPermission(user, nodes.adminNode())
+                    || DreamLuckPerms.hasPermission(user, nodes.playerNode())) {
+                granted |= 1L << e.getKey().ordinal();
+            }
+        }
+        return ScythePluginPermissionCache.State.resolved(granted);
+    }
+
     /**
      * <summary>
      * Resolve permission node(s) and determine if a player is authorized (Admin or Player level).
@@ -57,7 +141,7 @@ public final class ScythePluginPermissionsConfigs extends StaticEnumPulseConfig<
      * <param name="perm">Permission enum key.</param>
      * <param name="player">Player to check.</param>
      * <param name="sendError">Whether to send the enum's error message when unauthorized.</param>
-     * <param name="settings">Chat settings.</param>
+     * <param name="settings">Chat settings used for the denial message.</param>
      * <returns>true if allowed; false otherwise.</returns>
      */
     public boolean DoesPlayerHavePermission(final ScythePluginPermissions perm, final Player player, final boolean sendError, final DreamMessageSettings settings) {
@@ -65,27 +149,22 @@ public final class ScythePluginPermissionsConfigs extends StaticEnumPulseConfig<
         Objects.requireNonNull(player, "player");
         Objects.requireNonNull(settings, "settings");
 
-        final String format = getDefaultValueFor(perm);
-        final String pluginName = ScythePlugin.class.getSimpleName();
-
-        final String adminPerm  = PermissionStrings.resolve(format, pluginName, ScythePluginPermissionLevel.Admin);
-        final String playerPerm = PermissionStrings.resolve(format, pluginName, ScythePluginPermissionLevel.Player);
-
-        final String cacheKey = player.getUniqueId() + "|" + adminPerm + "|" + playerPerm;
-
-        final boolean allowed = permCache.getOrCompute(cacheKey, () -> {
-            final var user = DreamLuckPerms.getUser(player);
-            return DreamLuckPerms.hasPermission(user, adminPerm) || DreamLuckPerms.hasPermission(user, playerPerm);
-        });
+        final UUID playerId = player.getUniqueId();
+        final boolean allowed = EvaluateAll(player).isGranted(perm);
 
         if (!allowed && sendError) {
-            final String denyKey = player.getUniqueId() + "|" + perm.name();
+            final String denyKey = playerId + "|" + perm.name();
             if (denyCooldown.get(denyKey).isEmpty()) {
-                DreamChat.SendMessageToPlayer(player, perm.GetError(), settings);
+                DreamChat.SendMessageToPlayer(player, nodeTable().get(perm).denialText(), settings);
                 denyCooldown.put(denyKey, Boolean.TRUE);
             }
         }
 
         return allowed;
     }
-}
\ No newline at end of file
+
+    private Map<ScythePluginPermissions, ResolvedNodes> nodeTable() {
+        final Map<ScythePluginPermissions, ResolvedNodes> table = NODES;
+        return table != null ? table : RebuildNodeTable();
+    }
+}
@@ -28,9 +28,12 @@ import com.dreamfirestudios.dreamcore.DreamChat.DreamMessageSettings;
 import com.dreamfirestudios.dreamcore.DreamJava.DreamClassAPI;
 import com.dreamfirestudios.dreamcore.DreamVariable.DreamEnumVariableTest;
 import com.dreamfirestudios.scytheplugin.API.ScythePluginAPI;
+import com.dreamfirestudios.scytheplugin.Core.Permission.ScythePluginPermissionInvalidator;
 import com.dreamfirestudios.scytheplugin.Core.Services;
 import com.dreamfirestudios.scytheplugin.Core.VersionChecks;
 import com.dreamfirestudios.scytheplugin.Enum.*;
+import com.dreamfirestudios.scytheplugin.PulseConfig.ScythePluginConfig;
+import com.dreamfirestudios.scytheplugin.PulseConfig.ScythePluginPermissionsConfigs;
 import org.bukkit.plugin.java.JavaPlugin;
 
 import java.util.Objects;
@@ -60,8 +63,16 @@ public class ScythePlugin extends JavaPlugin {
         DreamClassAPI.RegisterPulseVariableTest(this, new DreamEnumVariableTest<>(ScythePluginMessages.class));
         DreamClassAPI.RegisterPulseVariableTest(this, new DreamEnumVariableTest<>(ScythePluginPermissionLevel.class));
         DreamClassAPI.RegisterPulseVariableTest(this, new DreamEnumVariableTest<>(ScythePluginPermissions.class));
+        ScythePluginPermissionInvalidator.register(this, ScythePluginPermissionsConfigs.GetPermissionCache());
+        ScythePluginConfig.ReturnStaticAsync(this, ScythePluginConfig.class, ScythePluginAPI::ApplyRuntimeSettings);
         ScythePluginAPI.ScythePluginReloadConfigs(DreamMessageSettings.all());
         DreamClassAPI.RegisterClasses(this);
         DreamCommand.RegisterRaw(this);
     }
+
+    /** Stop background services on disable. */
+    @Override
+    public void onDisable() {
+        Services.shutdown();
+    }
 }
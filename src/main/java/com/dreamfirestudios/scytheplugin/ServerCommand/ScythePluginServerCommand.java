@@ -28,6 +28,11 @@ import com.dreamfirestudios.dreamcommand.Annotations.PCOP;
 import com.dreamfirestudios.dreamcore.DreamChat.DreamMessageSettings;
 import com.dreamfirestudios.dreamcore.DreamJava.PulseAutoRegister;
 import com.dreamfirestudios.scytheplugin.API.ScythePluginAPI;
+import com.dreamfirestudios.scytheplugin.Core.CacheStats;
+import com.dreamfirestudios.scytheplugin.Core.Config.ConfigAccess;
+import com.dreamfirestudios.scytheplugin.Core.ExpiringCache;
+import com.dreamfirestudios.scytheplugin.Core.MainThreadQueue;
+import com.dreamfirestudios.scytheplugin.Core.Scheduler;
 import com.dreamfirestudios.scytheplugin.Core.Services;
 import com.dreamfirestudios.scytheplugin.Enum.ScythePluginMessages;
 import com.dreamfirestudios.scytheplugin.ScythePlugin;
@@ -35,7 +40,9 @@ import com.dreamfirestudios.scytheplugin.PulseConfig.ScythePluginConfig;
 import com.dreamfirestudios.scytheplugin.PulseConfig.ScythePluginMessagesConfig;
 import org.bukkit.command.CommandSender;
 
+import java.util.Map;
 import java.util.Objects;
+import java.util.TreeMap;
 
 /**
  * Console/server command endpoints (no player context).
@@ -54,8 +61,8 @@ public final class ScythePluginServerCommand {
     @PCOP
     public void ScythePluginMethod(final CommandSender sender) {
         Objects.requireNonNull(sender, "sender");
-        ScythePluginConfig.ReturnStaticAsync(ScythePlugin.GetScythePlugin(), ScythePluginConfig.class, config -> {
-            if (!config.systemEnabled) return;
+        ScythePluginConfig.WithSnapshot(config -> {
+            if (!config.systemEnabled()) return;
             ScythePluginMessagesConfig.ReturnStaticAsync(ScythePlugin.GetScythePlugin(), ScythePluginMessagesConfig.class, messageConfig ->
                     Services.scheduler().main(() ->
                             messageConfig.SendMessageToConsole(ScythePluginMessages.SystemIsntEnabled, DreamMessageSettings.all()))
@@ -63,6 +70,55 @@ public final class ScythePluginServerCommand {
         });
     }
 
+    /** Print hit/miss/eviction/load statistics for every registered cache to console. */
+    @PCMethod({"caches"})
+    @PCOP
+    public void ScythePluginCachesMethod(final CommandSender sender) {
+        Objects.requireNonNull(sender, "sender");
+        final Map<String, ExpiringCache<?, ?>> caches = new TreeMap<>(Services.caches());
+        ScythePluginMessagesConfig.ReturnStaticAsync(ScythePlugin.GetScythePlugin(), ScythePluginMessagesConfig.class, messageConfig ->
+                Services.scheduler().main(() -> {
+                    messageConfig.SendMessageToConsole(ScythePluginMessages.CacheStatsHeader, DreamMessageSettings.all(), caches.size());
+                    for (final ExpiringCache<?, ?> cache : caches.values()) {
+                        final CacheStats.Snapshot s = cache.stats().snapshot();
+                        messageConfig.SendMessageToConsole(ScythePluginMessages.CacheStatsLine, DreamMessageSettings.all(),
+                                cache.name(), cache.estimatedSize(), String.format("%.1f%%", s.hitRate() * 100.0d),
+                                s.hits(), s.misses(), s.evictions(), s.expirations(), s.loads(), s.loadFailures(),
+                                String.format("%.1f", s.averageLoadMicros()), s.loadMicrosAtPercentile(0.99d));
+                    }
+                })
+        );
+    }
+
+    /** Print main-thread queue and async executor load to console. */
+    @PCMethod({"scheduler"})
+    @PCOP
+    public void ScythePluginSchedulerMethod(final CommandSender sender) {
+        Objects.requireNonNull(sender, "sender");
+        final Scheduler scheduler = Services.scheduler();
+        final MainThreadQueue queue = scheduler.mainQueue();
+        ScythePluginMessagesConfig.ReturnStaticAsync(ScythePlugin.GetScythePlugin(), ScythePluginMessagesConfig.class, messageConfig ->
+                scheduler.main(() ->
+                        messageConfig.SendMessageToConsole(ScythePluginMessages.SchedulerStatsLine, DreamMessageSettings.all(),
+                                queue.depth(), queue.executed(), queue.carriedOver(), queue.budget().toNanos() / 1_000L,
+                                scheduler.availableAsyncSlots()))
+        );
+    }
+
+    /** Print per-config-class access counts, merged loads and wait times to console. */
+    @PCMethod({"configaccess"})
+    @PCOP
+    public void ScythePluginConfigAccessMethod(final CommandSender sender) {
+        Objects.requireNonNull(sender, "sender");
+        final Map<String, ConfigAccess.Stats> stats = ConfigAccess.stats();
+        ConfigAccess.enumConfig(ScythePluginMessagesConfig.class).thenAccept(messageConfig ->
+                        Services.scheduler().main(() ->
+                                stats.forEach((type, s) -> messageConfig.SendMessageToConsole(ScythePluginMessages.ConfigAccessStatsLine,
+                                        DreamMessageSettings.all(), type, s.requests(), s.loads(), s.waiting(),
+                                        String.format("%.1f", s.averageWaitMicros()), s.maxWaitMicros()))))
+                .exceptionally(t -> ConfigAccess.logFailure("Config access report", t));
+    }
+
     /** Enable/disable system via console. */
     @PCMethod({"enable"})
     @PCOP
@@ -83,8 +139,8 @@ public final class ScythePluginServerCommand {
     @PCOP
     public void ScythePluginConfigsResetMethod(final CommandSender sender) {
         Objects.requireNonNull(sender, "sender");
-        ScythePluginConfig.ReturnStaticAsync(ScythePlugin.GetScythePlugin(), ScythePluginConfig.class, config -> {
-            if (!config.systemEnabled) return;
+        ScythePluginConfig.WithSnapshot(config -> {
+            if (!config.systemEnabled()) return;
             ScythePluginAPI.ScythePluginResetConfigs(DreamMessageSettings.all());
             ScythePluginMessagesConfig.ReturnStaticAsync(ScythePlugin.GetScythePlugin(), ScythePluginMessagesConfig.class, messageConfig ->
                     Services.scheduler().main(() ->
@@ -98,8 +154,8 @@ public final class ScythePluginServerCommand {
     @PCOP
     public void ScythePluginConfigsReloadMethod(final CommandSender sender) {
         Objects.requireNonNull(sender, "sender");
-        ScythePluginConfig.ReturnStaticAsync(ScythePlugin.GetScythePlugin(), ScythePluginConfig.class, config -> {
-            if (!config.systemEnabled) return;
+        ScythePluginConfig.WithSnapshot(config -> {
+            if (!config.systemEnabled()) return;
             ScythePluginAPI.ScythePluginReloadConfigs(DreamMessageSettings.all());
             ScythePluginMessagesConfig.ReturnStaticAsync(ScythePlugin.GetScythePlugin(), ScythePluginMessagesConfig.class, messageConfig ->
                     Services.scheduler().main(() ->
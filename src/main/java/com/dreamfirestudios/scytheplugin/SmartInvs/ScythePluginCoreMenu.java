@@ -28,9 +28,12 @@ import com.dreamfirestudios.dreamcore.DreamSmartInvs.SmartInventory;
 import com.dreamfirestudios.dreamcore.DreamSmartInvs.content.InventoryContents;
 import com.dreamfirestudios.dreamcore.DreamSmartInvs.content.InventoryProvider;
 import com.dreamfirestudios.scytheplugin.API.ScythePluginAPI;
+import com.dreamfirestudios.scytheplugin.Core.Config.ConfigAccess;
+import com.dreamfirestudios.scytheplugin.Core.PlayerCommand.ScythePluginPlayerCommandHelper;
+import com.dreamfirestudios.scytheplugin.Core.Services;
 import com.dreamfirestudios.scytheplugin.Enum.ScythePluginInventoryItems;
 import com.dreamfirestudios.scytheplugin.Enum.ScythePluginPermissions;
-import com.dreamfirestudios.scytheplugin.ScythePlugin;
+import com.dreamfirestudios.scytheplugin.Enum.ScythePluginRateLimitedAction;
 import com.dreamfirestudios.scytheplugin.PulseConfig.ScythePluginConfig;
 import com.dreamfirestudios.scytheplugin.PulseConfig.ScythePluginPermissionsConfigs;
 import net.kyori.adventure.text.Component;
@@ -56,18 +59,21 @@ import java.util.concurrent.CompletableFuture;
  *   <li>Toggling requires {@link ScythePluginPermissions#EnableSystem}.</li>
  *   <li>Reload requires {@link ScythePluginPermissions#ReloadConfigs}.</li>
  *   <li>Reset requires {@link ScythePluginPermissions#ResetConfigs}.</li>
+ *   <li>Each button also charges the same per-player {@link ScythePluginRateLimitedAction} budget as its command.</li>
  * </ul>
  *
  * <h2>Threading</h2>
  * <p>
- * Item production and placement are resolved via config async callbacks and then applied on the main thread.
+ * Item production and placement are resolved via config async callbacks and then applied on the viewer's
+ * thread ({@code Scheduler#forEntity}), as is every open, so the menu stays on the owning region on Folia.
+ * Opening the menu batch-resolves the viewer's permissions, so the click checks are cache hits.
  * </p>
  */
 public final class ScythePluginCoreMenu implements InventoryProvider {
     private final SmartInventory smartInventory;
 
     /**
-     * Constructs and opens the menu for one or more players.
+     * Constructs and opens the menu for one or more players, each on that player's thread.
      *
      * @param players recipients (non-null, individual entries non-null)
      */
@@ -79,7 +85,11 @@ public final class ScythePluginCoreMenu implements InventoryProvider {
                 .size(1, 9)
                 .title(NamedTextColor.RED + "GlitchSMP Admin")
                 .build();
-        for (var p : players) smartInventory.open(Objects.requireNonNull(p, "player"));
+        for (var p : players) open(Objects.requireNonNull(p, "player"));
+    }
+
+    private void open(final Player player) {
+        Services.scheduler().forEntity(player, () -> smartInventory.open(player));
     }
 
     /**
@@ -94,8 +104,13 @@ public final class ScythePluginCoreMenu implements InventoryProvider {
         Objects.requireNonNull(player, "player");
         Objects.requireNonNull(contents, "contents");
 
+        // Resolve every permission the click handlers need with one LuckPerms lookup; EvaluateAll discards the
+        // result if the player is invalidated while it runs, so a stale prefetch never poisons the cache.
+        ConfigAccess.enumConfig(ScythePluginPermissionsConfigs.class).thenAccept(cfg -> cfg.EvaluateAll(player))
+                .exceptionally(t -> ConfigAccess.logFailure("Core menu permission prefetch", t));
+
         CompletableFuture<Void> future = new CompletableFuture<>();
-        ScythePluginConfig.ReturnStaticAsync(ScythePlugin.GetScythePlugin(), ScythePluginConfig.class, config -> {
+        ScythePluginConfig.WithSnapshot(config -> {
             ScythePluginSmartInvsItems.InventoryItem(
                     player, ScythePluginInventoryItems.BlankTile,
                     ci -> contents.fillRow(0, ci),
@@ -106,7 +121,7 @@ public final class ScythePluginCoreMenu implements InventoryProvider {
                     player, ScythePluginInventoryItems.SystemEnabled,
                     item -> {
                         var meta = item.getItemMeta();
-                        var lore = config.systemEnabled
+                        var lore = config.systemEnabled()
                                 ? List.of(Component.text(NamedTextColor.WHITE + "Currently: " + NamedTextColor.GREEN + "ENABLED"))
                                 : List.of(Component.text(NamedTextColor.WHITE + "Currently: " + NamedTextColor.RED + "DISABLED"));
                         meta.lore(lore);
@@ -145,32 +160,35 @@ public final class ScythePluginCoreMenu implements InventoryProvider {
     private void SystemEnabledClick(final Player player, final InventoryClickEvent e){
         Objects.requireNonNull(player, "player");
         Objects.requireNonNull(e, "event");
-        ScythePluginPermissionsConfigs.ReturnStaticAsync(ScythePlugin.GetScythePlugin(), ScythePluginPermissionsConfigs.class, cfg -> {
-            if (!cfg.DoesPlayerHavePermission(ScythePluginPermissions.EnableSystem, player, true, DreamMessageSettings.all())) return;
-            ScythePluginAPI.ScythePluginEnableSystem(x -> {});
-            smartInventory.open(player);
-        });
+        ScythePluginPlayerCommandHelper.checkPermission(
+                ScythePluginPermissions.EnableSystem, ScythePluginRateLimitedAction.ToggleSystem, player, true, DreamMessageSettings.all(),
+                () -> {
+                    ScythePluginAPI.ScythePluginEnableSystem(x -> {});
+                    open(player);
+                });
     }
 
     /** Reloads configs if authorized, then reopens the menu. */
     private void ReloadConfigsClick(final Player player, final InventoryClickEvent e) {
         Objects.requireNonNull(player, "player");
         Objects.requireNonNull(e, "event");
-        ScythePluginPermissionsConfigs.ReturnStaticAsync(ScythePlugin.GetScythePlugin(), ScythePluginPermissionsConfigs.class, cfg -> {
-            if (!cfg.DoesPlayerHavePermission(ScythePluginPermissions.ReloadConfigs, player, true, DreamMessageSettings.all())) return;
-            ScythePluginAPI.ScythePluginReloadConfigs(DreamMessageSettings.all());
-            smartInventory.open(player);
-        });
+        ScythePluginPlayerCommandHelper.checkPermission(
+                ScythePluginPermissions.ReloadConfigs, ScythePluginRateLimitedAction.ConfigsReload, player, true, DreamMessageSettings.all(),
+                () -> {
+                    ScythePluginAPI.ScythePluginReloadConfigs(DreamMessageSettings.all());
+                    open(player);
+                });
     }
 
     /** Resets configs if authorized, then reopens the menu. */
     private void ResetConfigsClick(final Player player, final InventoryClickEvent e){
         Objects.requireNonNull(player, "player");
         Objects.requireNonNull(e, "event");
-        ScythePluginPermissionsConfigs.ReturnStaticAsync(ScythePlugin.GetScythePlugin(), ScythePluginPermissionsConfigs.class, cfg -> {
-            if (!cfg.DoesPlayerHavePermission(ScythePluginPermissions.ResetConfigs, player, true, DreamMessageSettings.all())) return;
-            ScythePluginAPI.ScythePluginResetConfigs(DreamMessageSettings.all());
-            smartInventory.open(player);
-        });
+        ScythePluginPlayerCommandHelper.checkPermission(
+                ScythePluginPermissions.ResetConfigs, ScythePluginRateLimitedAction.ConfigsReset, player, true, DreamMessageSettings.all(),
+                () -> {
+                    ScythePluginAPI.ScythePluginResetConfigs(DreamMessageSettings.all());
+                    open(player);
+                });
     }
 }
\ No newline at end of file
@@ -24,8 +24,9 @@
 package com.dreamfirestudios.scytheplugin.SmartInvs;
 
 import com.dreamfirestudios.dreamcore.DreamSmartInvs.ClickableItem;
+import com.dreamfirestudios.scytheplugin.Core.Config.ConfigAccess;
+import com.dreamfirestudios.scytheplugin.Core.Services;
 import com.dreamfirestudios.scytheplugin.Enum.ScythePluginInventoryItems;
-import com.dreamfirestudios.scytheplugin.ScythePlugin;
 import com.dreamfirestudios.scytheplugin.PulseConfig.ScythePluginInventoryItemsConfig;
 import com.dreamfirestudios.scytheplugin.PulseConfig.ScythePluginSerializableItems;
 import org.bukkit.entity.Player;
@@ -40,7 +41,8 @@ import java.util.function.Function;
 /**
  * <summary>Convenience wrappers for loading items into SmartInvs.</summary>
  * <remarks>
- * Asynchronously fetches config values and provides {@link ClickableItem} instances to callers.
+ * Asynchronously fetches config values and provides {@link ClickableItem} instances to callers on the viewer's
+ * thread ({@code Scheduler#forEntity}).
  * </remarks>
  * <example>
  * <code>
@@ -63,20 +65,20 @@ public final class ScythePluginSmartInvsItems {
      * <param name="onClick">Click handler.</param>
      */
     public static void SerializedItem(final Player player, final String itemID, final Function<ItemStack, ItemStack> mutator, final Consumer<ClickableItem> place, final BiConsumer<Player, InventoryClickEvent> onClick) {
+        Objects.requireNonNull(player, "player");
         Objects.requireNonNull(itemID, "itemID");
         Objects.requireNonNull(mutator, "mutator");
         Objects.requireNonNull(place, "place");
         Objects.requireNonNull(onClick, "onClick");
-        final com.dreamfirestudios.scytheplugin.Core.EventBus bus = new com.dreamfirestudios.scytheplugin.Core.EventBus(ScythePlugin.GetScythePlugin());
-        ScythePluginSerializableItems.ReturnStaticAsync(ScythePlugin.GetScythePlugin(), ScythePluginSerializableItems.class, cfg -> {
+        ConfigAccess.config(ScythePluginSerializableItems.class).thenAccept(cfg -> {
                     final ItemStack src = cfg.GetItemStack(itemID);
                     if (src == null) return;
                     ItemStack item = mutator.apply(src.clone());
                     if (item == null) item = src.clone();
                     final ClickableItem ci = ClickableItem.of(item, e -> onClick.accept(player, e));
-                    bus.runMain(() -> place.accept(ci));
+                    Services.scheduler().forEntity(player, () -> place.accept(ci));
                 }
-        );
+        ).exceptionally(t -> ConfigAccess.logFailure("Serialized item " + itemID, t));
     }
 
     /**
@@ -88,20 +90,20 @@ public final class ScythePluginSmartInvsItems {
      * <param name="onClick">Click handler.</param>
      */
     public static void InventoryItemWithFeedback(final Player player, final ScythePluginInventoryItems key, final Function<ItemStack, ItemStack> mutator, final Consumer<ClickableItem> place, final BiConsumer<Player, InventoryClickEvent> onClick) {
+        Objects.requireNonNull(player, "player");
         Objects.requireNonNull(key, "key");
         Objects.requireNonNull(mutator, "mutator");
         Objects.requireNonNull(place, "place");
         Objects.requireNonNull(onClick, "onClick");
-        final com.dreamfirestudios.scytheplugin.Core.EventBus bus = new com.dreamfirestudios.scytheplugin.Core.EventBus(ScythePlugin.GetScythePlugin());
-        ScythePluginInventoryItemsConfig.ReturnStaticAsync(ScythePlugin.GetScythePlugin(), ScythePluginInventoryItemsConfig.class, cfg -> {
+        ConfigAccess.enumConfig(ScythePluginInventoryItemsConfig.class).thenAccept(cfg -> {
                     ItemStack base = cfg.GetValue(key);
                     if (base == null) return;
                     ItemStack item = mutator.apply(base.clone());
                     if (item == null) item = base.clone();
                     final ClickableItem ci = ClickableItem.of(item, e -> onClick.accept(player, e));
-                    bus.runMain(() -> place.accept(ci));
+                    Services.scheduler().forEntity(player, () -> place.accept(ci));
                 }
-        );
+        ).exceptionally(t -> ConfigAccess.logFailure("Inventory item " + key, t));
     }
 
     /**
@@ -112,16 +114,16 @@ public final class ScythePluginSmartInvsItems {
      * <param name="onClick">Click handler.</param>
      */
     public static void InventoryItem(final Player player, final ScythePluginInventoryItems key, final Consumer<ClickableItem> place, final BiConsumer<Player, InventoryClickEvent> onClick) {
+        Objects.requireNonNull(player, "player");
         Objects.requireNonNull(key, "key");
         Objects.requireNonNull(place, "place");
         Objects.requireNonNull(onClick, "onClick");
-        final com.dreamfirestudios.scytheplugin.Core.EventBus bus = new com.dreamfirestudios.scytheplugin.Core.EventBus(ScythePlugin.GetScythePlugin());
-        ScythePluginInventoryItemsConfig.ReturnStaticAsync(ScythePlugin.GetScythePlugin(), ScythePluginInventoryItemsConfig.class, cfg -> {
+        ConfigAccess.enumConfig(ScythePluginInventoryItemsConfig.class).thenAccept(cfg -> {
                     ItemStack base = cfg.GetValue(key);
                     if (base == null) return;
                     final ClickableItem ci = ClickableItem.of(base.clone(), e -> onClick.accept(player, e));
-                    bus.runMain(() -> place.accept(ci));
+                    Services.scheduler().forEntity(player, () -> place.accept(ci));
                 }
-        );
+        ).exceptionally(t -> ConfigAccess.logFailure("Inventory item " + key, t));
     }
 }
\ No newline at end of file
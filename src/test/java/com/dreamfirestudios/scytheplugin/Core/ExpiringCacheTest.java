@@ -0,0 +1,155 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dreamfire Studio
+ */
+package com.dreamfirestudios.scytheplugin.Core;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * <summary>Expiry, single-flight loading and W-TinyLFU admission of {@link ExpiringCache}.</summary>
+ */
+class ExpiringCacheTest {
+    private static ExpiringCache<String, String> cache(final boolean bounded, final Duration ttl) {
+        final ExpiringCache.Builder<String, String> b = ExpiringCache.builder(ttl);
+        if (bounded) b.maximumSize(1_000);
+        return b.build();
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void expiredEntryIsHiddenAndReclaimed(final boolean bounded) throws InterruptedException {
+        final ExpiringCache<String, String> cache = cache(bounded, Duration.ofMillis(50));
+        cache.put("k", "v");
+        assertEquals("v", cache.getIfPresent("k"));
+
+        Thread.sleep(100);
+        assertNull(cache.getIfPresent("k"));
+        assertTrue(cache.get("k").isEmpty());
+
+        cache.put("other", "v");
+        Thread.sleep(100);
+        // Wheel buckets are about a second wide, so reclamation lags the deadline by up to one bucket.
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (cache.estimatedSize() > 0 && System.nanoTime() < deadline) {
+            cache.cleanUp();
+            Thread.sleep(50);
+        }
+        assertEquals(0, cache.estimatedSize());
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void concurrentMissesShareOneLoad(final boolean bounded) throws Exception {
+        final ExpiringCache<String, String> cache = cache(bounded, Duration.ofMinutes(1));
+        final AtomicInteger calls = new AtomicInteger();
+        final CountDownLatch entered = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final int threads = 8;
+        final ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            final List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                results.add(pool.submit(() -> cache.get("k", k -> {
+                    calls.incrementAndGet();
+                    entered.countDown();
+                    await(release);
+                    return "loaded";
+                })));
+            }
+            assertTrue(entered.await(5, TimeUnit.SECONDS));
+            Thread.sleep(100);
+            release.countDown();
+            for (final Future<String> result : results) assertEquals("loaded", result.get(5, TimeUnit.SECONDS));
+        } finally {
+            pool.shutdownNow();
+        }
+        assertEquals(1, calls.get());
+        assertEquals("loaded", cache.getIfPresent("k"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void invalidateDuringLoadKeepsResultOutOfCache(final boolean bounded) throws Exception {
+        final ExpiringCache<String, String> cache = cache(bounded, Duration.ofMinutes(1));
+        final CountDownLatch entered = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final ExecutorService pool = Executors.newSingleThreadExecutor();
+        try {
+            final Future<String> result = pool.submit(() -> cache.get("k", k -> {
+                entered.countDown();
+                await(release);
+                return "stale";
+            }));
+            assertTrue(entered.await(5, TimeUnit.SECONDS));
+            cache.invalidate("k");
+            release.countDown();
+            assertEquals("stale", result.get(5, TimeUnit.SECONDS));
+        } finally {
+            pool.shutdownNow();
+        }
+        assertNull(cache.getIfPresent("k"));
+        assertEquals("fresh", cache.get("k", k -> "fresh"));
+    }
+
+    @Test
+    void loaderArgumentIsPassedThroughAndFailuresStoreNothing() {
+        final ExpiringCache<String, String> cache = cache(true, Duration.ofMinutes(1));
+        assertThrows(IllegalStateException.class, () -> cache.get("k", "arg", (k, a) -> {
+            throw new IllegalStateException(a);
+        }));
+        assertNull(cache.getIfPresent("k"));
+
+        assertEquals("k:arg", cache.get("k", "arg", (k, a) -> k + ":" + a));
+        assertEquals("k:arg", cache.get("k", "other", (k, a) -> k + ":" + a));
+    }
+
+    @Test
+    void recursiveLoadOfSameKeyFails() {
+        final ExpiringCache<String, String> cache = cache(false, Duration.ofMinutes(1));
+        assertThrows(IllegalStateException.class, () -> cache.get("k", k -> cache.get("k", k2 -> "inner")));
+        assertNull(cache.getIfPresent("k"));
+    }
+
+    @Test
+    void frequentKeySurvivesScan() {
+        final ExpiringCache<String, String> cache = ExpiringCache.<String, String>builder(Duration.ofMinutes(1))
+                .maximumSize(100)
+                .build();
+        cache.put("hot", "v");
+        for (int i = 0; i < 20; i++) assertNotNull(cache.getIfPresent("hot"));
+
+        for (int i = 0; i < 1_000; i++) cache.put("cold-" + i, "v");
+
+        assertEquals("v", cache.getIfPresent("hot"));
+        assertTrue(cache.estimatedSize() <= 100, "size " + cache.estimatedSize());
+    }
+
+    private static void await(final CountDownLatch latch) {
+        try {
+            if (!latch.await(5, TimeUnit.SECONDS)) throw new IllegalStateException("timed out");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dreamfire Studio
+ */
+package com.dreamfirestudios.scytheplugin.Core;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * <summary>Per-key budgets of {@link KeyedRateLimiter}.</summary>
+ */
+class KeyedRateLimiterTest {
+    private static final Duration HOUR = Duration.ofHours(1);
+
+    @Test
+    void tracksKeysIndependently() {
+        final KeyedRateLimiter<String> limiter = KeyedRateLimiter.of(3, HOUR);
+        for (int i = 0; i < 3; i++) assertTrue(limiter.tryAcquire("a"));
+        assertFalse(limiter.tryAcquire("a"));
+        assertTrue(limiter.tryAcquire("b"));
+
+        limiter.invalidate("a");
+        assertTrue(limiter.tryAcquire("a"));
+    }
+
+    @Test
+    void deniesRequestLargerThanBurst() {
+        final KeyedRateLimiter<String> limiter = KeyedRateLimiter.of(3, HOUR);
+        assertFalse(limiter.tryAcquire("a", 4));
+        assertTrue(limiter.tryAcquire("a", 3));
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dreamfire Studio
+ */
+package com.dreamfirestudios.scytheplugin.Core;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * <summary>Burst, cost rounding and reservations of the GCRA {@link RateLimiter}.</summary>
+ */
+class RateLimiterTest {
+    private static final Duration HOUR = Duration.ofHours(1);
+
+    @Test
+    void grantsBurstThenDenies() {
+        final RateLimiter limiter = RateLimiter.of(5, HOUR);
+        for (int i = 0; i < 5; i++) assertTrue(limiter.tryAcquire(), "permit " + i);
+        assertFalse(limiter.tryAcquire());
+    }
+
+    @Test
+    void deniesRequestLargerThanBurst() {
+        final RateLimiter limiter = RateLimiter.of(5, HOUR);
+        assertFalse(limiter.tryAcquire(6));
+        assertTrue(limiter.tryAcquire(5));
+    }
+
+    @Test
+    void costRoundsUpAndIsClamped() {
+        assertEquals(1L, Gcra.costNanos(0.0));
+        assertEquals(1L, Gcra.costNanos(0.3));
+        assertEquals(3L, Gcra.costNanos(2.2));
+        assertEquals(Gcra.MAX_NANOS, Gcra.costNanos(1e30));
+    }
+
+    @Test
+    void acquireAsyncRejectsWaitsBeyondCapWithoutBooking() {
+        final RateLimiter limiter = RateLimiter.of(2, HOUR);
+        final CompletableFuture<Void> first = limiter.acquireAsync(2, Duration.ofSeconds(1));
+        assertTrue(first.isDone() && !first.isCompletedExceptionally());
+
+        final CompletableFuture<Void> rejected = limiter.acquireAsync(1, Duration.ofSeconds(1));
+        final CompletionException failure = assertThrows(CompletionException.class, rejected::join);
+        assertInstanceOf(RejectedExecutionException.class, failure.getCause());
+
+        final double before = limiter.availablePermits();
+        limiter.acquireAsync(1, Duration.ofSeconds(1));
+        assertEquals(before, limiter.availablePermits(), 1e-3);
+    }
+
+    @Test
+    void refundRestoresReservedCapacity() {
+        final long cost = TimeUnit.MINUTES.toNanos(1);
+        final long tolerance = cost;
+        final AtomicLong tat = new AtomicLong(Gcra.UNSET);
+
+        assertEquals(0L, Gcra.reserve(tat, cost, tolerance, 0L));
+        assertFalse(Gcra.tryAcquire(tat, cost, tolerance));
+        final long wait = Gcra.reserve(tat, cost, tolerance, Long.MAX_VALUE);
+        assertTrue(wait > 0L);
+
+        Gcra.refund(tat, cost);
+        Gcra.refund(tat, cost);
+        assertTrue(Gcra.isIdle(tat.get(), System.nanoTime()));
+        assertTrue(Gcra.tryAcquire(tat, cost, tolerance));
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dreamfire Studio
+ */
+package com.dreamfirestudios.scytheplugin.Core;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * <summary>Expiry, cascade and budget behaviour of {@link TimerWheel} on a synthetic clock.</summary>
+ */
+class TimerWheelTest {
+    private static final long START = 1L << 40;
+
+    private static final class Node extends TimerWheel.Timed {
+        final long deadline;
+        Node(final long deadline) { this.deadline = deadline; }
+        @Override long expiresAt() { return deadline; }
+    }
+
+    private final TimerWheel wheel = new TimerWheel(START);
+    private final List<TimerWheel.Timed> expired = new ArrayList<>();
+
+    private int advanceTo(final long now) {
+        return wheel.advance(now, Integer.MAX_VALUE, expired::add);
+    }
+
+    @Test
+    void expiresOnlyNodesWhoseDeadlinePassed() {
+        final Node soon = new Node(START + TimeUnit.SECONDS.toNanos(2));
+        final Node later = new Node(START + TimeUnit.SECONDS.toNanos(30));
+        wheel.schedule(soon);
+        wheel.schedule(later);
+
+        assertEquals(0, advanceTo(START + TimeUnit.SECONDS.toNanos(1)));
+        assertEquals(1, advanceTo(START + TimeUnit.SECONDS.toNanos(5)));
+        assertEquals(List.of(soon), expired);
+        assertEquals(1, advanceTo(START + TimeUnit.SECONDS.toNanos(31)));
+        assertEquals(List.of(soon, later), expired);
+    }
+
+    @Test
+    void cascadesCoarseLevelsWithoutExpiringEarly() {
+        final long[] deadlines = {
+                TimeUnit.SECONDS.toNanos(90),   // level 1 (minutes)
+                TimeUnit.MINUTES.toNanos(90),   // level 2 (hours)
+                TimeUnit.HOURS.toNanos(30),     // level 3 (days)
+        };
+        for (final long offset : deadlines) {
+            final TimerWheel fresh = new TimerWheel(START);
+            final List<TimerWheel.Timed> out = new ArrayList<>();
+            final Node node = new Node(START + offset);
+            fresh.schedule(node);
+
+            long now = START;
+            final long step = offset / 200L;
+            while (now + step < START + offset) {
+                now += step;
+                fresh.advance(now, Integer.MAX_VALUE, out::add);
+                assertTrue(out.isEmpty(), "expired " + (START + offset - now) + " ns early");
+            }
+            fresh.advance(START + offset + TimeUnit.SECONDS.toNanos(2), Integer.MAX_VALUE, out::add);
+            assertEquals(List.of(node), out);
+        }
+    }
+
+    @Test
+    void carriesOverExpiriesBeyondTheBudget() {
+        for (int i = 0; i < 10; i++) wheel.schedule(new Node(START + TimeUnit.MILLISECONDS.toNanos(10)));
+        final long now = START + TimeUnit.SECONDS.toNanos(3);
+
+        assertEquals(4, wheel.advance(now, 4, expired::add));
+        assertEquals(4, wheel.advance(now, 4, expired::add));
+        assertEquals(2, wheel.advance(now, 4, expired::add));
+        assertEquals(10, expired.size());
+    }
+
+    @Test
+    void descheduledNodeNeverExpires() {
+        final Node node = new Node(START + TimeUnit.SECONDS.toNanos(2));
+        wheel.schedule(node);
+        wheel.deschedule(node);
+
+        assertEquals(0, advanceTo(START + TimeUnit.SECONDS.toNanos(10)));
+        assertNull(node.nextInTimer);
+    }
+}